@@ -0,0 +1,74 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.Application;
+import com.example.whereabouts.SyntheticDataGenerator;
+import com.example.whereabouts.TestcontainersConfiguration;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Starts the application without the user interface against a Testcontainers PostgreSQL database, and seeds the
+ * database with {@link SyntheticDataGenerator}. The volumes can be changed with JMH's {@code -p} option, for example
+ * {@code -p tasks=1000000}.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    @Param("1000")
+    public int locations;
+    @Param("100000")
+    public int employees;
+    @Param("100")
+    public int projects;
+    @Param("100000")
+    public int tasks;
+    @Param("1.0")
+    public double taskSkew;
+    @Param("42")
+    public long seed;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(Application.class, TestcontainersConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        transactionTemplate = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> beanClass) {
+        return context.getBean(beanClass);
+    }
+
+    public <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void seed() {
+        getBean(SyntheticDataGenerator.class).generate(
+                new SyntheticDataGenerator.Volumes(locations, employees, projects, tasks, taskSkew), seed,
+                Runtime.getRuntime().availableProcessors());
+        getBean(DSLContext.class).execute("analyze");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.common.Country;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up countries, their flags and their display names from the {@link Country} table to creating them
+ * from a locale every time, as {@link Country#ofIsoCode(String)} used to. Does not use the database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class CountryBenchmark {
+
+    private static final Locale DISPLAY_LOCALE = Locale.GERMAN;
+
+    private String[] isoCodes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        isoCodes = Country.isoCountries().stream().map(Country::isoCode).toArray(String[]::new);
+    }
+
+    private String nextIsoCode() {
+        next = (next + 1) % isoCodes.length;
+        return isoCodes[next];
+    }
+
+    @Benchmark
+    public Object ofIsoCode() {
+        return Country.ofIsoCode(nextIsoCode());
+    }
+
+    @Benchmark
+    public Object ofIsoCodeWithNewLocale() {
+        var locale = Locale.of("", nextIsoCode());
+        if (!Country.isValid(locale)) {
+            throw new IllegalArgumentException("Locale does not represent a country");
+        }
+        return locale;
+    }
+
+    @Benchmark
+    public Object flagUnicode() {
+        return Country.ofIsoCode(nextIsoCode()).flagUnicode();
+    }
+
+    @Benchmark
+    public Object flagUnicodeComputed() {
+        var countryCode = nextIsoCode();
+        return new String(Character.toChars(0x1F1E6 + (countryCode.charAt(0) - 'A'))) +
+                new String(Character.toChars(0x1F1E6 + (countryCode.charAt(1) - 'A')));
+    }
+
+    @Benchmark
+    public Object displayName() {
+        return Country.ofIsoCode(nextIsoCode()).displayName(DISPLAY_LOCALE);
+    }
+
+    @Benchmark
+    public Object displayNameFromLocale() {
+        return Locale.of("", nextIsoCode()).getDisplayCountry(DISPLAY_LOCALE);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.humanresources.EmployeeFilter;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.internal.EmployeeReferenceQuery;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class EmployeeReferenceQueryBenchmark {
+
+    private EmployeeReferenceQuery query;
+    private long[] employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        query = database.getBean(EmployeeReferenceQuery.class);
+        employeeIds = database.getBean(DSLContext.class).select(EMPLOYEE.EMPLOYEE_ID).from(EMPLOYEE)
+                .fetch(EMPLOYEE.EMPLOYEE_ID).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public Object findFirstPage(BenchmarkDatabase database) {
+        return database.inTransaction(() -> query.findByFilter(PageRequest.of(0, 50), EmployeeFilter.empty()));
+    }
+
+    @Benchmark
+    public Object findBySearchTerm(BenchmarkDatabase database) {
+        var filter = EmployeeFilter.empty().withSearchTerm("First12 Last12");
+        return database.inTransaction(() -> query.findByFilter(PageRequest.of(0, 50), filter));
+    }
+
+    @Benchmark
+    public Object findByIds(BenchmarkDatabase database) {
+        var ids = new HashSet<EmployeeId>();
+        for (var i = 0; i < 10; ++i) {
+            ids.add(EmployeeId.of(employeeIds[ThreadLocalRandom.current().nextInt(employeeIds.length)]));
+        }
+        return database.inTransaction(() -> query.findByIds(ids));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeView;
+import com.example.whereabouts.humanresources.internal.*;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
+
+/**
+ * Compares loading the employee details page with {@link EmployeeViewQuery} to loading it with the repository and
+ * reference queries it replaces. All but a few of the synthetic employees have a manager, so both paths include the
+ * manager lookup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class EmployeeViewQueryBenchmark {
+
+    private EmployeeViewQuery viewQuery;
+    private EmployeeRepository employeeRepository;
+    private EmploymentDetailsRepository employmentDetailsRepository;
+    private EmployeeReferenceQuery employeeReferenceQuery;
+    private LocationReferenceQuery locationReferenceQuery;
+    private long[] employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        viewQuery = database.getBean(EmployeeViewQuery.class);
+        employeeRepository = database.getBean(EmployeeRepository.class);
+        employmentDetailsRepository = database.getBean(EmploymentDetailsRepository.class);
+        employeeReferenceQuery = database.getBean(EmployeeReferenceQuery.class);
+        locationReferenceQuery = database.getBean(LocationReferenceQuery.class);
+        employeeIds = database.getBean(DSLContext.class).select(EMPLOYEE.EMPLOYEE_ID).from(EMPLOYEE)
+                .fetch(EMPLOYEE.EMPLOYEE_ID).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public Object singleQuery(BenchmarkDatabase database) {
+        var id = randomEmployee();
+        return database.inTransaction(() -> viewQuery.findById(id));
+    }
+
+    @Benchmark
+    public Object separateQueries(BenchmarkDatabase database) {
+        var id = randomEmployee();
+        return database.inTransaction(() -> employeeRepository.findById(id).map(employee -> {
+            var details = employmentDetailsRepository.findById(id).orElse(null);
+            if (details == null) {
+                return new EmployeeView(employee, null, null, null);
+            }
+            var managerId = details.data().manager();
+            var manager = managerId == null ? null
+                    : employeeReferenceQuery.findByIds(Set.of(managerId)).stream().findFirst().orElse(null);
+            var location = locationReferenceQuery.findByIds(Set.of(details.data().location())).stream()
+                    .findFirst().orElse(null);
+            return new EmployeeView(employee, details, manager, location);
+        }));
+    }
+
+    private EmployeeId randomEmployee() {
+        return EmployeeId.of(employeeIds[ThreadLocalRandom.current().nextInt(employeeIds.length)]);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.internal.LocationTreeNodeQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class LocationTreeNodeQueryBenchmark {
+
+    private static final Country COUNTRY = Country.ofIsoCode("SE");
+
+    private LocationTreeNodeQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        query = database.getBean(LocationTreeNodeQuery.class);
+    }
+
+    @Benchmark
+    public Object countCountriesWithLocations(BenchmarkDatabase database) {
+        return database.inTransaction(query::countCountriesWithLocations);
+    }
+
+    @Benchmark
+    public Object findCountries(BenchmarkDatabase database) {
+        return database.inTransaction(() -> query.findCountries(PageRequest.of(0, 50)));
+    }
+
+    @Benchmark
+    public Object findLocationsInCountry(BenchmarkDatabase database) {
+        return database.inTransaction(() -> query.findLocations(COUNTRY, PageRequest.of(0, 50)));
+    }
+}
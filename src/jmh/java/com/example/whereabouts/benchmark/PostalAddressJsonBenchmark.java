@@ -0,0 +1,74 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.common.address.*;
+import org.jooq.JSONB;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast {@link JooqPostalAddressConverter} reads and writes each type of postal address. Does not use the
+ * database. The stored JSON has its properties in the order PostgreSQL returns them from a jsonb column, in which the
+ * country is not necessarily the first property.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class PostalAddressJsonBenchmark {
+
+    @Param({"CA", "FI", "DE", "US", "SE"})
+    public String country;
+
+    private final JooqPostalAddressConverter converter = new JooqPostalAddressConverter();
+    private PostalAddress address;
+    private JSONB json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        address = switch (country) {
+            case CanadianPostalAddress.ISO_CODE -> new CanadianPostalAddress("1 Street", "Toronto",
+                    CanadianProvince.ON, CanadianPostalCode.of("M5V 2T6"), Country.ofIsoCode(country));
+            case FinnishPostalAddress.ISO_CODE -> new FinnishPostalAddress("Ruukinkatu 2-4",
+                    FinnishPostalCode.of("20540"), "Turku", Country.ofIsoCode(country));
+            case GermanPostalAddress.ISO_CODE -> new GermanPostalAddress("Hauptstraße 1",
+                    GermanPostalCode.of("10115"), "Berlin", Country.ofIsoCode(country));
+            case USPostalAddress.ISO_CODE -> new USPostalAddress("1 Main Street", "Springfield", USState.IL,
+                    USZipCode.of("62701"), Country.ofIsoCode(country));
+            default -> new InternationalPostalAddress("Drottninggatan 1", "Stockholm", null, "111 51",
+                    Country.ofIsoCode(country));
+        };
+        json = toJsonbOrder(converter.to(address));
+    }
+
+    @Benchmark
+    public Object read() {
+        return converter.from(json);
+    }
+
+    @Benchmark
+    public Object write() {
+        return converter.to(address);
+    }
+
+    /**
+     * Reorders the properties like PostgreSQL does: shorter keys first, and keys of equal length in byte order.
+     */
+    private static JSONB toJsonbOrder(JSONB written) {
+        var objectMapper = new ObjectMapper();
+        var sorted = new TreeMap<String, JsonNode>(
+                Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+        for (Map.Entry<String, JsonNode> property : objectMapper.readTree(written.data()).properties()) {
+            sorted.put(property.getKey(), property.getValue());
+        }
+        return JSONB.jsonb(objectMapper.writeValueAsString(sorted));
+    }
+}
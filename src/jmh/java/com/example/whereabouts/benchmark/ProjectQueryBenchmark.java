@@ -0,0 +1,52 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.projects.ProjectId;
+import com.example.whereabouts.projects.ProjectSortableProperty;
+import com.example.whereabouts.projects.internal.ProjectQuery;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.provider.SortOrder;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.whereabouts.jooq.Tables.PROJECT;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class ProjectQueryBenchmark {
+
+    private static final SortOrder<ProjectSortableProperty> BY_NAME =
+            new SortOrder<>(ProjectSortableProperty.NAME, SortDirection.ASCENDING);
+
+    private ProjectQuery query;
+    private long[] projectIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        query = database.getBean(ProjectQuery.class);
+        projectIds = database.getBean(DSLContext.class).select(PROJECT.PROJECT_ID).from(PROJECT)
+                .fetch(PROJECT.PROJECT_ID).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public Object findFirstPage(BenchmarkDatabase database) {
+        return database.inTransaction(() -> query.findProjectListItemsBySearchTerm(null, 50, 0, BY_NAME).toList());
+    }
+
+    @Benchmark
+    public Object findBySearchTerm(BenchmarkDatabase database) {
+        return database.inTransaction(() -> query.findProjectListItemsBySearchTerm("Project 1", 50, 0, BY_NAME).toList());
+    }
+
+    @Benchmark
+    public Object findById(BenchmarkDatabase database) {
+        var id = ProjectId.of(projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)]);
+        return database.inTransaction(() -> query.findProjectListItemById(id));
+    }
+}
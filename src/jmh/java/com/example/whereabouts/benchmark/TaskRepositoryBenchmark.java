@@ -0,0 +1,116 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.projects.*;
+import com.example.whereabouts.projects.internal.TaskRepository;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.provider.SortOrder;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.whereabouts.jooq.Tables.PROJECT;
+import static com.example.whereabouts.jooq.Tables.TASK;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class TaskRepositoryBenchmark {
+
+    private static final List<SortOrder<TaskSortableProperty>> BY_DUE_DATE =
+            List.of(new SortOrder<>(TaskSortableProperty.DUE_DATE, SortDirection.ASCENDING));
+
+    private static final int PAGE_SIZE = 50;
+
+    private TaskRepository repository;
+    private long[] projectIds;
+    private long[] taskIds;
+    private ProjectId largestProject;
+    private int deepPageOffset;
+    private Task lastTaskBeforeDeepPage;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        repository = database.getBean(TaskRepository.class);
+        var dsl = database.getBean(DSLContext.class);
+        projectIds = dsl.select(PROJECT.PROJECT_ID).from(PROJECT).fetch(PROJECT.PROJECT_ID).stream().mapToLong(Long::longValue).toArray();
+        taskIds = dsl.select(TASK.TASK_ID).from(TASK).fetch(TASK.TASK_ID).stream().mapToLong(Long::longValue).toArray();
+        // The tasks are skewed, so the largest project has the deepest pages
+        var largest = dsl.select(TASK.PROJECT_ID, DSL.count()).from(TASK).groupBy(TASK.PROJECT_ID)
+                .orderBy(DSL.count().desc()).limit(1).fetchSingle();
+        largestProject = ProjectId.of(largest.value1());
+        deepPageOffset = largest.value2() - PAGE_SIZE * 2;
+        lastTaskBeforeDeepPage = database.inTransaction(() -> repository.findByFilter(largestProject,
+                TaskFilter.empty(), 1, deepPageOffset - 1, BY_DUE_DATE).findFirst().orElseThrow());
+    }
+
+    private ProjectId randomProject() {
+        return ProjectId.of(projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)]);
+    }
+
+    private TaskId randomTask() {
+        return TaskId.of(taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)]);
+    }
+
+    @Benchmark
+    public Object findById(BenchmarkDatabase database) {
+        return database.inTransaction(() -> repository.findById(randomTask()));
+    }
+
+    @Benchmark
+    public Object findFirstPage(BenchmarkDatabase database) {
+        return database.inTransaction(() -> repository.findByFilter(randomProject(), TaskFilter.empty(), 50, 0, List.of()).toList());
+    }
+
+    @Benchmark
+    public Object findFirstPageSortedByDueDate(BenchmarkDatabase database) {
+        return database.inTransaction(() -> repository.findByFilter(randomProject(), TaskFilter.empty(), 50, 0, BY_DUE_DATE).toList());
+    }
+
+    @Benchmark
+    public Object findFirstPageFilteredByStatus(BenchmarkDatabase database) {
+        var filter = TaskFilter.empty().withStatus(TaskStatus.IN_PROGRESS);
+        return database.inTransaction(() -> repository.findByFilter(randomProject(), filter, 50, 0, BY_DUE_DATE).toList());
+    }
+
+    @Benchmark
+    public Object findFirstPageFilteredBySearchTerm(BenchmarkDatabase database) {
+        var filter = TaskFilter.empty().withSearchTerm("Task 12");
+        return database.inTransaction(() -> repository.findByFilter(randomProject(), filter, 50, 0, BY_DUE_DATE).toList());
+    }
+
+    @Benchmark
+    public Object findDeepPageWithOffset(BenchmarkDatabase database) {
+        return database.inTransaction(() -> repository.findByFilter(largestProject, TaskFilter.empty(), PAGE_SIZE,
+                deepPageOffset, BY_DUE_DATE).toList());
+    }
+
+    @Benchmark
+    public Object findDeepPageWithKeyset(BenchmarkDatabase database) {
+        return database.inTransaction(() -> repository.findByFilterAfter(largestProject, TaskFilter.empty(),
+                lastTaskBeforeDeepPage, PAGE_SIZE, BY_DUE_DATE).toList());
+    }
+
+    @Benchmark
+    public Object insert(BenchmarkDatabase database) {
+        var data = new TaskData(randomProject(), "Benchmark task", null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of());
+        return database.inTransaction(() -> repository.insert(data));
+    }
+
+    @Benchmark
+    public Object update(BenchmarkDatabase database) {
+        return database.inTransaction(() -> {
+            var task = repository.findById(randomTask()).orElseThrow();
+            return repository.update(task);
+        });
+    }
+}
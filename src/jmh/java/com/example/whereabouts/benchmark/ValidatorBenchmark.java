@@ -0,0 +1,90 @@
+package com.example.whereabouts.benchmark;
+
+import com.example.whereabouts.common.DomainName;
+import com.example.whereabouts.common.EmailAddress;
+import com.example.whereabouts.common.IpAddress;
+import com.example.whereabouts.common.LegacyValidators;
+import com.example.whereabouts.common.PhoneNumber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass validators of the value objects to the {@link LegacyValidators} they replaced, which split
+ * strings and compiled a regular expression on every call. The values are valid, as they are when rows are read from
+ * the database. Does not use the database. Run with the JMH GC profiler to compare allocations as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private static final String[] EMAIL_ADDRESSES = {
+            "john.doe@example.com", "o'hara+whereabouts@sub.example.co.uk", "admin@[192.168.0.1]",
+            "ops@[IPv6:2001:db8::1]"
+    };
+    private static final String[] DOMAIN_NAMES = {"example.com", "mail.sub.example.co.uk", "xn--bcher-kva.example"};
+    private static final String[] PHONE_NUMBERS = {"+358401234567", "0401234567", "+15551234567"};
+    private static final String[] IPV4_ADDRESSES = {"192.168.0.1", "10.0.0.255", "255.255.255.255"};
+    private static final String[] IPV6_ADDRESSES = {"2001:db8::1", "fe80::1:2:3:4", "2001:0db8:85a3:0000:0000:8a2e:0370:7334"};
+
+    private int next;
+
+    private String nextOf(String[] values) {
+        next = (next + 1) % values.length;
+        return values[next];
+    }
+
+    @Benchmark
+    public boolean emailAddress() {
+        return EmailAddress.isValid(nextOf(EMAIL_ADDRESSES));
+    }
+
+    @Benchmark
+    public boolean emailAddressLegacy() {
+        return LegacyValidators.isValidEmailAddress(nextOf(EMAIL_ADDRESSES));
+    }
+
+    @Benchmark
+    public boolean domainName() {
+        return DomainName.isValid(nextOf(DOMAIN_NAMES));
+    }
+
+    @Benchmark
+    public boolean domainNameLegacy() {
+        return LegacyValidators.isValidDomainName(nextOf(DOMAIN_NAMES));
+    }
+
+    @Benchmark
+    public boolean phoneNumber() {
+        return PhoneNumber.isValid(PhoneNumber.sanitize(nextOf(PHONE_NUMBERS)));
+    }
+
+    @Benchmark
+    public boolean phoneNumberLegacy() {
+        return LegacyValidators.isValidPhoneNumber(LegacyValidators.sanitizePhoneNumber(nextOf(PHONE_NUMBERS)));
+    }
+
+    @Benchmark
+    public boolean ipv4() {
+        return IpAddress.Ipv4.isValidIpv4(nextOf(IPV4_ADDRESSES));
+    }
+
+    @Benchmark
+    public boolean ipv4Legacy() {
+        return LegacyValidators.isValidIpv4(nextOf(IPV4_ADDRESSES));
+    }
+
+    @Benchmark
+    public boolean ipv6() {
+        return IpAddress.Ipv6.isValidIpv6(nextOf(IPV6_ADDRESSES));
+    }
+
+    @Benchmark
+    public boolean ipv6Legacy() {
+        return LegacyValidators.isValidIpv6(nextOf(IPV6_ADDRESSES));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.whereabouts.common;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache for the results of count queries, used to give lazy grids an accurate size without running a
+ * count query every time the user scrolls. Entries expire after a fixed time to live, and the least recently used
+ * entries are evicted when the cache is full. The cache should be {@linkplain #invalidateAllAfterCommit()
+ * invalidated} whenever the counted data changes.
+ *
+ * @param <K> the type of the key that identifies the query, typically the filter; must implement {@code equals}
+ */
+@NullMarked
+public final class CountCache<K> {
+
+    private record Entry(int count, long expiresAtNanos) {
+    }
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final LinkedHashMap<K, Entry> entries;
+    private final long timeToLiveNanos;
+    private long generation;
+
+    public CountCache(Duration timeToLive) {
+        this(DEFAULT_MAXIMUM_SIZE, timeToLive);
+    }
+
+    public CountCache(int maximumSize, Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached count for the given key, running the count query if there is no unexpired cached count.
+     */
+    public int get(K key, Supplier<Integer> countQuery) {
+        long loadedGeneration;
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAtNanos() - System.nanoTime() >= 0) {
+                return entry.count();
+            }
+            loadedGeneration = generation;
+        }
+        // The query runs outside the lock. If the cache is invalidated meanwhile, the count may already be stale.
+        var count = countQuery.get();
+        synchronized (entries) {
+            if (generation == loadedGeneration) {
+                entries.put(key, new Entry(count, System.nanoTime() + timeToLiveNanos));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes all cached counts once the current transaction commits, or immediately if there is no transaction.
+     * Invalidating before the commit would let another thread cache a count that does not see the change yet.
+     */
+    public void invalidateAllAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+            });
+        } else {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Removes all cached counts.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+}
@@ -5,10 +5,13 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -18,20 +21,33 @@ import static java.util.Objects.requireNonNull;
 @NullMarked
 public final class Country implements ValueObject {
 
+    // The ISO countries, indexed by their two-letter code (see slotOf), so that ofIsoCode can return a shared instance
+    // without creating and validating a new locale every time. Country codes are read for every address and location
+    // that is loaded from the database.
+    private static final Country[] BY_ISO_CODE = new Country[26 * 26];
     private static final List<Country> ISO_COUNTRIES;
 
     static {
-        ISO_COUNTRIES = Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA2)
-                .stream()
-                .map(Country::ofIsoCode)
+        for (var isoCode : Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA2)) {
+            var locale = Locale.of("", isoCode);
+            var slot = slotOf(isoCode);
+            if (slot >= 0 && isValid(locale)) {
+                BY_ISO_CODE[slot] = new Country(locale);
+            }
+        }
+        ISO_COUNTRIES = Arrays.stream(BY_ISO_CODE)
+                .filter(Objects::nonNull)
                 .sorted(Comparator.comparing(Country::displayName))
                 .toList();
     }
 
     private final Locale locale;
+    private final String flagUnicode;
+    private final ConcurrentMap<Locale, String> displayNames = new ConcurrentHashMap<>(4);
 
     private Country(Locale locale) {
         this.locale = requireNonNull(locale);
+        this.flagUnicode = toFlagUnicode(locale.getCountry());
     }
 
     /**
@@ -69,11 +85,15 @@ public final class Country implements ValueObject {
      * @return the display name of the country
      */
     public String displayName(@Nullable Locale displayIn) {
-        return locale.getDisplayCountry(displayIn == null ? Locale.getDefault() : displayIn);
+        return displayNames.computeIfAbsent(displayIn == null ? Locale.getDefault() : displayIn,
+                locale::getDisplayCountry);
     }
 
     public String flagUnicode() {
-        var countryCode = locale.getCountry();
+        return flagUnicode;
+    }
+
+    private static String toFlagUnicode(String countryCode) {
         if (countryCode.length() != 2) {
             return "";
         }
@@ -118,13 +138,17 @@ public final class Country implements ValueObject {
     }
 
     /**
-     * Creates a new {@code Country} from the given locale.
+     * Returns the {@code Country} of the given locale. ISO countries are shared instances.
      *
-     * @param locale the locale of the country to create
-     * @return the new {@code Country}
+     * @param locale the locale of the country
+     * @return the {@code Country}
      * @throws IllegalArgumentException if the given locale does not represent a valid country
      */
     public static Country ofLocale(Locale locale) {
+        var slot = slotOf(locale.getCountry());
+        if (slot >= 0 && BY_ISO_CODE[slot] != null && BY_ISO_CODE[slot].locale.equals(locale)) {
+            return BY_ISO_CODE[slot];
+        }
         if (!isValid(locale)) {
             throw new IllegalArgumentException("Locale does not represent a country");
         }
@@ -132,17 +156,38 @@ public final class Country implements ValueObject {
     }
 
     /**
-     * Creates a new {@code Country} from the given ISO 3166 code.
+     * Returns the {@code Country} of the given ISO 3166 code. ISO countries are looked up from a table of shared
+     * instances.
      *
-     * @param isoCode the ISO code of the country to create
-     * @return the new {@code Country}
+     * @param isoCode the ISO code of the country
+     * @return the {@code Country}
      * @throws IllegalArgumentException if the given ISO code is not valid
      */
     @JsonCreator
     public static Country ofIsoCode(String isoCode) {
+        var slot = slotOf(isoCode);
+        if (slot >= 0 && BY_ISO_CODE[slot] != null) {
+            return BY_ISO_CODE[slot];
+        }
         return ofLocale(Locale.of("", isoCode));
     }
 
+    /**
+     * Returns the index of the given upper case two-letter code in {@link #BY_ISO_CODE}, or -1 if the code is anything
+     * else.
+     */
+    private static int slotOf(String isoCode) {
+        if (isoCode.length() != 2) {
+            return -1;
+        }
+        var first = isoCode.charAt(0) - 'A';
+        var second = isoCode.charAt(1) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return -1;
+        }
+        return first * 26 + second;
+    }
+
     /**
      * A list of all ISO countries provided by the current Java VM.
      *
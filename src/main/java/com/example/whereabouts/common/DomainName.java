@@ -46,24 +46,44 @@ public final class DomainName implements ValueObject {
      * @return {@code true} if the string is a valid domain name, {@code false} otherwise
      */
     public static boolean isValid(String value) {
+        return isValid(value, 0, value.length());
+    }
+
+    /**
+     * Checks if the characters of the given string between {@code from} (inclusive) and {@code to} (exclusive) are a
+     * valid domain name. Walks the labels in place, so that e-mail addresses can be validated without substrings.
+     */
+    static boolean isValid(String value, int from, int to) {
         // Check length
-        if (value.isEmpty() || value.length() > MAX_LENGTH) {
+        var length = to - from;
+        if (length == 0 || length > MAX_LENGTH) {
             return false;
         }
-        var labels = value.split("\\.", -1);
-        for (var label : labels) {
-            // Check label length
-            if (label.isEmpty() || label.length() > 63) {
-                return false;
-            }
-            // Check label characters (only ASCII letters, digits, and - are allowed)
-            for (var c : label.toCharArray()) {
-                if (!Character.isDigit(c) && (c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && c != '-') {
+        var labelStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || value.charAt(i) == '.') {
+                if (!isValidLabel(value, labelStart, i)) {
                     return false;
                 }
+                labelStart = i + 1;
             }
-            // Check that label does not start or end with a -
-            if (label.charAt(0) == '-' || label.charAt(label.length() - 1) == '-') {
+        }
+        return true;
+    }
+
+    private static boolean isValidLabel(String value, int from, int to) {
+        // Check label length
+        if (from == to || to - from > 63) {
+            return false;
+        }
+        // Check that label does not start or end with a -
+        if (value.charAt(from) == '-' || value.charAt(to - 1) == '-') {
+            return false;
+        }
+        // Check label characters (only ASCII letters, digits, and - are allowed)
+        for (int i = from; i < to; i++) {
+            var c = value.charAt(i);
+            if (!Character.isDigit(c) && (c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && c != '-') {
                 return false;
             }
         }
@@ -57,27 +57,63 @@ public sealed abstract class IpAddress implements ValueObject {
          * @return {@code true} if the string is a valid IPv4 address, {@code false} otherwise
          */
         public static boolean isValidIpv4(String value) {
+            return isValidIpv4(value, 0, value.length());
+        }
+
+        /**
+         * Checks if the characters of the given string between {@code from} (inclusive) and {@code to} (exclusive)
+         * are a valid IPv4 address, without creating substrings.
+         */
+        static boolean isValidIpv4(String value, int from, int to) {
             // Check length
-            if (value.length() < MIN_LENGTH || value.length() > MAX_LENGTH) {
+            var length = to - from;
+            if (length < MIN_LENGTH || length > MAX_LENGTH) {
                 return false;
             }
-            // Check number of octets
-            var octets = value.split("\\.");
-            if (octets.length != 4) {
-                return false;
+            // Trailing dots are ignored, like String.split(String) ignores the empty octets after them
+            var end = to;
+            while (end > from && value.charAt(end - 1) == '.') {
+                end--;
             }
-            // Check that each octet is a number between 0 and 255
-            for (var octet : octets) {
-                try {
-                    var number = Integer.parseInt(octet);
-                    if (number < 0 || number > 255) {
+            // Check number of octets, and that each octet is a number between 0 and 255
+            var octets = 0;
+            var octetStart = from;
+            for (int i = from; i <= end; i++) {
+                if (i == end || value.charAt(i) == '.') {
+                    if (++octets > 4 || !isValidOctet(value, octetStart, i)) {
                         return false;
                     }
-                } catch (NumberFormatException ex) {
+                    octetStart = i + 1;
+                }
+            }
+            return octets == 4;
+        }
+
+        /**
+         * Accepts the same octets as {@code Integer.parseInt} followed by a range check, including a leading sign.
+         */
+        private static boolean isValidOctet(String value, int from, int to) {
+            if (from == to) {
+                return false;
+            }
+            var i = from;
+            var first = value.charAt(i);
+            var negative = first == '-';
+            if (negative || first == '+') {
+                if (++i == to) {
                     return false;
                 }
             }
-            return true;
+            var number = 0;
+            for (; i < to; i++) {
+                var digit = Character.digit(value.charAt(i), 10);
+                if (digit < 0) {
+                    return false;
+                }
+                // Saturate instead of overflowing, anything above 255 is out of range anyway
+                number = Math.min(number * 10 + digit, 256);
+            }
+            return negative ? number == 0 : number <= 255;
         }
     }
 
@@ -100,47 +136,64 @@ public sealed abstract class IpAddress implements ValueObject {
          * @return {@code true} if the string is a valid IPv6 address, {@code false} otherwise
          */
         public static boolean isValidIpv6(String value) {
+            return isValidIpv6(value, 0, value.length());
+        }
+
+        /**
+         * Checks if the characters of the given string between {@code from} (inclusive) and {@code to} (exclusive)
+         * are a valid IPv6 address, without creating substrings.
+         */
+        static boolean isValidIpv6(String value, int from, int to) {
             // Check length
-            if (value.length() < MIN_LENGTH || value.length() > MAX_LENGTH) {
-                return false;
-            }
-            // Check number of quibbles
-            var quibbles = value.split(":", -1);
-            if (quibbles.length < 3 || quibbles.length > 8) {
+            var length = to - from;
+            if (length < MIN_LENGTH || length > MAX_LENGTH) {
                 return false;
             }
-            // Check that each quibble is either empty or a valid hexadecimal number
-            for (var quibble : quibbles) {
-                if (quibble.isEmpty()) {
-                    continue;
-                }
-                if (quibble.length() > 4) {
-                    return false;
-                }
-                for (var c : quibble.toCharArray()) {
-                    if (!Character.isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+            var quibbles = 0;
+            var quibbleStart = from;
+            var doubleColon = -1;
+            for (int i = from; i <= to; i++) {
+                if (i == to || value.charAt(i) == ':') {
+                    // Check that each quibble is either empty or a valid hexadecimal number
+                    if (++quibbles > 8 || !isValidQuibble(value, quibbleStart, i)) {
                         return false;
                     }
+                    quibbleStart = i + 1;
+                    // Check that if there is a double colon, it occurs at most once
+                    if (i + 1 < to && value.charAt(i + 1) == ':') {
+                        if (doubleColon != -1) {
+                            return false;
+                        }
+                        doubleColon = i - from;
+                    }
                 }
             }
-            var doubleColon = value.indexOf("::");
-            // Check that if there is no double colon, there are exactly 8 quibbles
-            if (doubleColon == -1 && quibbles.length != 8) {
+            // Check number of quibbles
+            if (quibbles < 3) {
                 return false;
             }
-            // Check that if there is a double colon, it occurs at most once
-            if (doubleColon > -1 && value.indexOf("::", doubleColon + 1) != -1) {
+            // Check that if there is no double colon, there are exactly 8 quibbles
+            if (doubleColon == -1 && quibbles != 8) {
                 return false;
             }
             // Check that if there is a double colon, and it is not at the beginning of the string, the first quibble must not be empty
-            if (doubleColon > 0 && quibbles[0].isEmpty()) {
+            if (doubleColon > 0 && value.charAt(from) == ':') {
                 return false;
             }
             // Check that if there is a double colon, and it is not at the end of the string, the last quibble must not be empty
-            if (doubleColon < value.length() - 2 && quibbles[quibbles.length - 1].isEmpty()) {
+            return doubleColon >= length - 2 || value.charAt(to - 1) != ':';
+        }
+
+        private static boolean isValidQuibble(String value, int from, int to) {
+            if (to - from > 4) {
                 return false;
             }
-
+            for (int i = from; i < to; i++) {
+                var c = value.charAt(i);
+                if (!Character.isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                    return false;
+                }
+            }
             return true;
         }
     }
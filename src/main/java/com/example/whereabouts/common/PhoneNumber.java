@@ -54,15 +54,13 @@ public final class PhoneNumber implements ValueObject {
             return false;
         }
         // Check format
-        if (value.charAt(0) == '+') {
-            return value.length() > 1 && areDigitsOnly(value.substring(1));
-        } else {
-            return areDigitsOnly(value);
-        }
+        var digitsFrom = value.charAt(0) == '+' ? 1 : 0;
+        return value.length() > digitsFrom && areDigitsOnly(value, digitsFrom);
     }
 
-    private static boolean areDigitsOnly(String s) {
-        for (var c : s.toCharArray()) {
+    private static boolean areDigitsOnly(String s, int from) {
+        for (int i = from; i < s.length(); i++) {
+            var c = s.charAt(i);
             if (c < '0' || c > '9') {
                 return false;
             }
@@ -79,15 +77,30 @@ public final class PhoneNumber implements ValueObject {
      * @return the sanitized phone number
      */
     public static String sanitize(String value) {
-        var sb = new StringBuilder();
-        for (var c : value.toCharArray()) {
-            if (!Character.isWhitespace(c) && c != '-' && c != '(' && c != ')' && c != '.') {
+        // Phone numbers read from the database are already sanitized, so only copy the value if there is something
+        // to remove
+        var first = 0;
+        while (first < value.length() && !isFormattingCharacter(value.charAt(first))) {
+            first++;
+        }
+        if (first == value.length()) {
+            return value;
+        }
+        var sb = new StringBuilder(value.length() - 1);
+        sb.append(value, 0, first);
+        for (int i = first + 1; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (!isFormattingCharacter(c)) {
                 sb.append(c);
             }
         }
         return sb.toString();
     }
 
+    private static boolean isFormattingCharacter(char c) {
+        return Character.isWhitespace(c) || c == '-' || c == '(' || c == ')' || c == '.';
+    }
+
     /**
      * {@linkplain #sanitize(String) Sanitizes} the given string and creates a new {@code PhoneNumber} from it.
      *
@@ -0,0 +1,122 @@
+package com.example.whereabouts.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache for small, frequently read values such as references to other entities. The least recently used
+ * entries are evicted when the cache is full, and entries expire after a fixed time to live. The cache should be
+ * {@linkplain #invalidate(Object) invalidated} whenever a cached value changes.
+ * <p>
+ * The cache publishes the standard Micrometer cache metrics ({@code cache.gets}, {@code cache.evictions} and
+ * {@code cache.size}) tagged with the name of the cache, so they show up in the Actuator metrics endpoint.
+ *
+ * @param <K> the type of the key, typically an ID; must implement {@code equals} and {@code hashCode}
+ * @param <V> the type of the cached values
+ */
+@NullMarked
+public final class ReferenceCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final long timeToLiveNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long generation;
+
+    public ReferenceCache(String name, int maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("cache.size", this, ReferenceCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    /**
+     * Returns the values of the given keys. The keys that are not cached, or whose entries have expired, are loaded
+     * with a single call to the given loader. Keys that the loader does not return a value for are left out of the
+     * result and are not cached.
+     */
+    public Map<K, V> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        var now = System.nanoTime();
+        var result = new HashMap<K, V>(keys.size());
+        var missing = new HashSet<K>();
+        long loadedGeneration;
+        synchronized (entries) {
+            loadedGeneration = generation;
+            for (var key : keys) {
+                var entry = entries.get(key);
+                if (entry == null || entry.expiresAtNanos() - now < 0) {
+                    missing.add(key);
+                } else {
+                    result.put(key, entry.value());
+                }
+            }
+        }
+        hits.increment(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.increment(missing.size());
+        // The loader runs outside the lock, as it typically queries the database
+        var loaded = loader.apply(missing);
+        var expiresAtNanos = System.nanoTime() + timeToLiveNanos;
+        synchronized (entries) {
+            // If the cache was invalidated while loading, the loaded values may already be stale
+            if (generation == loadedGeneration) {
+                loaded.forEach((key, value) -> entries.put(key, new Entry<>(value, expiresAtNanos)));
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Removes the cached value of the given key.
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
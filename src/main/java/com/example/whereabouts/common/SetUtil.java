@@ -28,4 +28,10 @@ public final class SetUtil {
         newSet.remove(itemToRemove);
         return newSet;
     }
+
+    public static <T> Set<T> difference(Set<T> items, Set<T> itemsToRemove) {
+        var newSet = new HashSet<>(items);
+        newSet.removeAll(itemsToRemove);
+        return newSet;
+    }
 }
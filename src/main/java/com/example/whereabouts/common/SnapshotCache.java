@@ -0,0 +1,82 @@
+package com.example.whereabouts.common;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a single value in memory, typically the result of an aggregate query, so that it does not have to be loaded
+ * every time it is needed. The value is loaded when first needed, and reloaded once it has expired or has been
+ * {@linkplain #invalidateAfterCommit() invalidated}. The time to live picks up changes that have been made directly
+ * in the database.
+ *
+ * @param <T> the type of the cached value, which should be immutable
+ */
+@NullMarked
+public final class SnapshotCache<T> {
+
+    private record Snapshot<T>(long generation, long expiresAtNanos, T value) {
+    }
+
+    private final Supplier<T> loader;
+    private final long timeToLiveNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile @Nullable Snapshot<T> snapshot;
+
+    /**
+     * @param timeToLive how long a loaded value is used before it is loaded again
+     * @param loader     loads the value; called in the transaction of the caller of {@link #get()}
+     */
+    public SnapshotCache(Duration timeToLive, Supplier<T> loader) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the cached value, loading it if it has not been loaded yet, or has expired or been invalidated.
+     */
+    public T get() {
+        var now = System.nanoTime();
+        var current = snapshot;
+        if (current != null && current.generation() == generation.get() && current.expiresAtNanos() - now >= 0) {
+            return current.value();
+        }
+        // If the value is invalidated while it is being loaded, the loaded value may already be stale. It is still
+        // returned to this caller, but not cached.
+        var loadedGeneration = generation.get();
+        var loaded = new Snapshot<>(loadedGeneration, now + timeToLiveNanos, loader.get());
+        if (generation.get() == loadedGeneration) {
+            snapshot = loaded;
+        }
+        return loaded.value();
+    }
+
+    /**
+     * Discards the cached value once the current transaction commits, or right away if there is no transaction.
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the cached value right away.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+}
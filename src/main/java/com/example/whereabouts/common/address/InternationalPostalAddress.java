@@ -3,10 +3,8 @@ package com.example.whereabouts.common.address;
 import com.example.whereabouts.common.Country;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
-import tools.jackson.databind.annotation.JsonDeserialize;
 
 @NullMarked
-@JsonDeserialize
 public record InternationalPostalAddress(@Nullable String streetAddress, @Nullable String city,
                                          @Nullable String stateProvinceOrRegion, @Nullable String postalCode,
                                          Country country) implements PostalAddress {
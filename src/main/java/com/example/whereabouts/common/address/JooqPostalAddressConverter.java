@@ -2,29 +2,38 @@ package com.example.whereabouts.common.address;
 
 import org.jetbrains.annotations.NotNull;
 import org.jooq.Converter;
-import org.jooq.JSON;
+import org.jooq.JSONB;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
-public final class JooqPostalAddressConverter implements Converter<JSON, PostalAddress> {
+public final class JooqPostalAddressConverter implements Converter<JSONB, PostalAddress> {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Readers and writers are immutable and thread-safe, and cache the (de)serializers they have looked up, so all
+    // converters share the same ones
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = OBJECT_MAPPER.readerFor(PostalAddress.class);
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
 
     @Override
-    public PostalAddress from(JSON databaseObject) {
-        return objectMapper.readerFor(PostalAddress.class).readValue(databaseObject.data());
+    public PostalAddress from(JSONB databaseObject) {
+        if (databaseObject == null) {
+            return null;
+        }
+        return READER.readValue(databaseObject.data());
     }
 
     @Override
-    public JSON to(PostalAddress userObject) {
+    public JSONB to(PostalAddress userObject) {
         if (userObject == null) {
             return null;
         }
-        return JSON.json(objectMapper.writeValueAsString(userObject));
+        return JSONB.jsonb(WRITER.writeValueAsString(userObject));
     }
 
     @Override
-    public @NotNull Class<JSON> fromType() {
-        return JSON.class;
+    public @NotNull Class<JSONB> fromType() {
+        return JSONB.class;
     }
 
     @Override
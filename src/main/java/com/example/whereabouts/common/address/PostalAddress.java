@@ -2,11 +2,24 @@ package com.example.whereabouts.common.address;
 
 import com.example.whereabouts.common.Country;
 import com.example.whereabouts.common.ValueObject;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import org.jspecify.annotations.NullMarked;
-import tools.jackson.databind.annotation.JsonDeserialize;
 
+/**
+ * A postal address in the format of its country. In JSON, the {@code country} property decides which record the
+ * address is read into. Jackson only buffers the properties that come before it, so the JSON is parsed in a single
+ * pass wherever {@code country} is.
+ */
 @NullMarked
-@JsonDeserialize(using = JacksonPostalAddressDeserializer.class)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY,
+        property = PostalAddress.PROP_COUNTRY, visible = true, defaultImpl = InternationalPostalAddress.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CanadianPostalAddress.class, name = CanadianPostalAddress.ISO_CODE),
+        @JsonSubTypes.Type(value = FinnishPostalAddress.class, name = FinnishPostalAddress.ISO_CODE),
+        @JsonSubTypes.Type(value = GermanPostalAddress.class, name = GermanPostalAddress.ISO_CODE),
+        @JsonSubTypes.Type(value = USPostalAddress.class, name = USPostalAddress.ISO_CODE)
+})
 public sealed interface PostalAddress extends ValueObject permits CanadianPostalAddress, FinnishPostalAddress,
         GermanPostalAddress, InternationalPostalAddress, USPostalAddress {
 
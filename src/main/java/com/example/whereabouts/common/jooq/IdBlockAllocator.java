@@ -0,0 +1,148 @@
+package com.example.whereabouts.common.jooq;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.Sequence;
+import org.jooq.impl.DSL;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out IDs from database sequences without a database round-trip per ID.
+ * <p>
+ * Every call to {@code nextval} reserves a whole block of IDs: the returned value and the following
+ * {@code increment - 1} values. The block size is therefore always the increment of the sequence, which is read from
+ * the database when the sequence is first used. As the blocks are reserved by the database, IDs never collide between
+ * application nodes, or with IDs allocated directly with {@code nextval} in SQL. IDs that are left in a block when the
+ * application stops are lost, leaving gaps in the sequence.
+ */
+@NullMarked
+@Component
+public class IdBlockAllocator {
+
+    private final DSLContext dsl;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, SequenceState> sequences = new ConcurrentHashMap<>();
+
+    IdBlockAllocator(DSLContext dsl, MeterRegistry meterRegistry) {
+        this.dsl = dsl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the next ID from the given sequence, reserving a new block from the database only when the current
+     * block has been used up.
+     */
+    public long nextId(Sequence<Long> sequence) {
+        return state(sequence).nextId();
+    }
+
+    /**
+     * Returns the given number of IDs from the given sequence. The rest of the current block is used first, and all
+     * the blocks that are still needed are reserved from the database in a single round-trip.
+     */
+    public List<Long> nextIds(Sequence<Long> sequence, int count) {
+        return state(sequence).nextIds(count);
+    }
+
+    private SequenceState state(Sequence<Long> sequence) {
+        return sequences.computeIfAbsent(sequence.getQualifiedName().toString(), name -> new SequenceState(sequence));
+    }
+
+    private record Block(AtomicLong next, long end) {
+    }
+
+    private final class SequenceState {
+
+        private final Sequence<Long> sequence;
+        private final Counter refills;
+        private final AtomicReference<@Nullable Block> current = new AtomicReference<>();
+        private volatile long blockSize;
+
+        SequenceState(Sequence<Long> sequence) {
+            this.sequence = sequence;
+            this.refills = Counter.builder("whereabouts.id.block.refills")
+                    .description("Number of ID blocks reserved from the database")
+                    .tag("sequence", sequence.getName())
+                    .register(meterRegistry);
+        }
+
+        long nextId() {
+            var size = blockSize();
+            while (true) {
+                var block = current.get();
+                if (block != null) {
+                    var id = block.next().getAndIncrement();
+                    if (id < block.end()) {
+                        return id;
+                    }
+                }
+                // Threads that lose the race discard their block, which only leaves a gap in the sequence
+                var start = dsl.nextval(sequence);
+                if (current.compareAndSet(block, new Block(new AtomicLong(start), start + size))) {
+                    refills.increment();
+                }
+            }
+        }
+
+        List<Long> nextIds(int count) {
+            var ids = new ArrayList<Long>(count);
+            if (count <= 0) {
+                return ids;
+            }
+            var size = blockSize();
+            var block = current.get();
+            if (block != null) {
+                var first = block.next().getAndAdd(count);
+                for (var id = first; id < block.end() && ids.size() < count; ++id) {
+                    ids.add(id);
+                }
+            }
+            var missing = count - ids.size();
+            if (missing == 0) {
+                return ids;
+            }
+            var starts = dsl.nextvals(sequence, Math.toIntExact(Math.ceilDiv(missing, size)));
+            refills.increment(starts.size());
+            for (long start : starts) {
+                for (var id = start; id < start + size && ids.size() < count; ++id) {
+                    ids.add(id);
+                }
+            }
+            // Keep what is left of the last block for the next allocation. If another thread has already replaced the
+            // current block, the rest is discarded, which only leaves a gap in the sequence.
+            var next = ids.getLast() + 1;
+            var end = starts.getLast() + size;
+            if (next < end) {
+                current.compareAndSet(block, new Block(new AtomicLong(next), end));
+            }
+            return ids;
+        }
+
+        private long blockSize() {
+            if (blockSize == 0) {
+                var schema = sequence.getSchema();
+                var increment = DSL.field(DSL.name("increment_by"), Long.class);
+                blockSize = dsl.select(increment)
+                        .from(DSL.table(DSL.name("pg_catalog", "pg_sequences")))
+                        .where(DSL.field(DSL.name("schemaname"), String.class).eq(schema == null
+                                ? DSL.field("current_schema()", String.class)
+                                : DSL.val(schema.getName())))
+                        .and(DSL.field(DSL.name("sequencename"), String.class).eq(sequence.getName()))
+                        .fetchOptional(increment)
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Sequence " + sequence.getQualifiedName() + " does not exist"));
+            }
+            return blockSize;
+        }
+    }
+}
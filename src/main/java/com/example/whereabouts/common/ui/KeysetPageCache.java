@@ -0,0 +1,59 @@
+package com.example.whereabouts.common.ui;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Remembers the last item of every page a lazy data provider has fetched, so that the next page can be fetched using
+ * keyset pagination instead of an offset. Vaadin only gives the data provider an offset and a limit, so this cache is
+ * what maps an offset back to the item to seek from.
+ * <p>
+ * The cache is only valid for a single combination of filter and sort order. Whenever the query key changes, the cache
+ * is cleared. It should also be {@linkplain #clear() cleared} whenever the underlying data changes.
+ *
+ * @param <T> the type of the items in the grid
+ */
+@NullMarked
+public final class KeysetPageCache<T> implements Serializable {
+
+    private final Map<Integer, T> lastItemByEndOffset = new HashMap<>();
+    private @Nullable Object queryKey;
+
+    /**
+     * Finds the item that comes right before the given offset.
+     *
+     * @param queryKey an object that identifies the filter and sort order of the query, must implement {@code equals}
+     * @param offset   the offset of the page about to be fetched
+     * @return the item to seek from, or an empty {@code Optional} if the page has to be fetched using the offset
+     */
+    public Optional<T> findItemBefore(Object queryKey, int offset) {
+        if (!Objects.equals(this.queryKey, queryKey)) {
+            clear();
+            this.queryKey = queryKey;
+        }
+        return Optional.ofNullable(lastItemByEndOffset.get(offset));
+    }
+
+    /**
+     * Remembers the last item of a fetched page.
+     *
+     * @param endOffset the offset of the first item of the next page
+     * @param lastItem  the last item of the fetched page
+     */
+    public void put(int endOffset, T lastItem) {
+        lastItemByEndOffset.put(endOffset, lastItem);
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        lastItemByEndOffset.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.whereabouts.humanresources;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Finds addresses by city, postal code and region, whatever the address format of their country. Every criterion that
+ * is set must match exactly, ignoring case. The region is the state of US addresses, the province of Canadian
+ * addresses, and the state, province or region of international addresses. The city of a Finnish address is its post
+ * office.
+ */
+@NullMarked
+public record AddressFilter(@Nullable String city, @Nullable String postalCode, @Nullable String region) {
+
+    public AddressFilter withCity(@Nullable String city) {
+        return new AddressFilter(city, postalCode, region);
+    }
+
+    public AddressFilter withPostalCode(@Nullable String postalCode) {
+        return new AddressFilter(city, postalCode, region);
+    }
+
+    public AddressFilter withRegion(@Nullable String region) {
+        return new AddressFilter(city, postalCode, region);
+    }
+
+    public static AddressFilter empty() {
+        return new AddressFilter(null, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.common.SnapshotCache;
+import com.example.whereabouts.humanresources.internal.CountryLocationStatistics;
+import com.example.whereabouts.humanresources.internal.LocationTreeNodeQuery;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the location and active employee counts of every country in memory, so that the root and country levels of
+ * the location tree do not aggregate over all locations and employees every time they are expanded.
+ * <p>
+ * The counts are loaded with a single query when first needed, and {@linkplain #invalidateAfterCommit() invalidated}
+ * by the services whenever a location or the employment details of an employee are written. The counts also expire
+ * after a while, to pick up changes that have been made directly in the database.
+ */
+@Component
+@NullMarked
+class CountryStatisticsCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final SnapshotCache<Map<Country, CountryLocationStatistics>> byCountry;
+
+    CountryStatisticsCache(LocationTreeNodeQuery locationTreeNodeQuery) {
+        this.byCountry = new SnapshotCache<>(TIME_TO_LIVE, () -> locationTreeNodeQuery.findCountryStatistics().stream()
+                .collect(Collectors.toUnmodifiableMap(CountryLocationStatistics::country, Function.identity())));
+    }
+
+    /**
+     * Returns the number of countries that have at least one location. Must be called within a transaction.
+     */
+    int countCountries() {
+        return byCountry.get().size();
+    }
+
+    /**
+     * Returns the number of locations in the given country. Must be called within a transaction.
+     */
+    int countLocations(Country country) {
+        var statistics = byCountry.get().get(country);
+        return statistics == null ? 0 : statistics.locations();
+    }
+
+    /**
+     * Returns the number of locations in all countries. Must be called within a transaction.
+     */
+    int countLocations() {
+        return byCountry.get().values().stream().mapToInt(CountryLocationStatistics::locations).sum();
+    }
+
+    /**
+     * Returns a page of country nodes. Must be called within a transaction.
+     */
+    List<LocationTreeNode> findCountries(Pageable pageable) {
+        return byCountry.get().values().stream()
+                .map(statistics -> new LocationTreeNode.CountryNode(statistics.country(), statistics.activeEmployees()))
+                .sorted(LocationTreeNodeComparators.countries(
+                        pageable.getSortOr(LocationTreeNodeComparators.DEFAULT_SORT)))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .<LocationTreeNode>map(node -> node)
+                .toList();
+    }
+
+    /**
+     * Discards the cached counts once the current transaction commits.
+     */
+    void invalidateAfterCommit() {
+        byCountry.invalidateAfterCommit();
+    }
+}
@@ -9,32 +9,42 @@ import java.util.Set;
 
 @NullMarked
 public record EmployeeFilter(@Nullable String searchTerm, Set<EmploymentStatus> statuses,
-                             Set<EmploymentType> types) {
+                             Set<EmploymentType> types, AddressFilter homeAddress) {
 
-    public EmployeeFilter(@Nullable String searchTerm, Set<EmploymentStatus> statuses, Set<EmploymentType> types) {
+    public EmployeeFilter(@Nullable String searchTerm, Set<EmploymentStatus> statuses, Set<EmploymentType> types,
+                          AddressFilter homeAddress) {
         this.searchTerm = searchTerm;
         this.statuses = Set.copyOf(statuses);
         this.types = Set.copyOf(types);
+        this.homeAddress = homeAddress;
+    }
+
+    public EmployeeFilter(@Nullable String searchTerm, Set<EmploymentStatus> statuses, Set<EmploymentType> types) {
+        this(searchTerm, statuses, types, AddressFilter.empty());
     }
 
     public EmployeeFilter withSearchTerm(@Nullable String searchTerm) {
-        return new EmployeeFilter(searchTerm, statuses, types);
+        return new EmployeeFilter(searchTerm, statuses, types, homeAddress);
     }
 
     public EmployeeFilter withStatus(EmploymentStatus status) {
-        return new EmployeeFilter(searchTerm, SetUtil.add(statuses, status), types);
+        return new EmployeeFilter(searchTerm, SetUtil.add(statuses, status), types, homeAddress);
     }
 
     public EmployeeFilter withoutStatus(EmploymentStatus status) {
-        return new EmployeeFilter(searchTerm, SetUtil.remove(statuses, status), types);
+        return new EmployeeFilter(searchTerm, SetUtil.remove(statuses, status), types, homeAddress);
     }
 
     public EmployeeFilter withType(EmploymentType type) {
-        return new EmployeeFilter(searchTerm, statuses, SetUtil.add(types, type));
+        return new EmployeeFilter(searchTerm, statuses, SetUtil.add(types, type), homeAddress);
     }
 
     public EmployeeFilter withoutType(EmploymentType type) {
-        return new EmployeeFilter(searchTerm, statuses, SetUtil.remove(types, type));
+        return new EmployeeFilter(searchTerm, statuses, SetUtil.remove(types, type), homeAddress);
+    }
+
+    public EmployeeFilter withHomeAddress(AddressFilter homeAddress) {
+        return new EmployeeFilter(searchTerm, statuses, types, homeAddress);
     }
 
     public static EmployeeFilter empty() {
@@ -1,17 +1,243 @@
 package com.example.whereabouts.humanresources;
 
+import com.example.whereabouts.common.ReferenceCache;
+import com.example.whereabouts.humanresources.internal.EmployeePictureRepository;
+import com.example.whereabouts.humanresources.internal.StoredPicture;
+import com.example.whereabouts.security.AppRoles;
 import com.vaadin.flow.server.streams.DownloadHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import java.awt.Color;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @PreAuthorize("isAuthenticated()")
 @NullMarked
 public class EmployeePictureService {
 
+    public static final int MAX_PICTURE_BYTES = 5 * 1024 * 1024;
+    // A small, well compressed file can still decode into an image that does not fit in memory
+    public static final long MAX_PICTURE_PIXELS = 40_000_000;
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+    private static final float THUMBNAIL_QUALITY = 0.85f;
+
+    private final EmployeePictureRepository pictureRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    // Small thumbnails are shown for every employee card in the lists, so they are served from memory. Employees
+    // without a picture are cached as well, so that the cards of those employees do not query the database either.
+    private final ReferenceCache<EmployeeId, Optional<StoredPicture>> smallThumbnailCache;
+
+    public EmployeePictureService(EmployeePictureRepository pictureRepository, PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.pictureRepository = pictureRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.smallThumbnailCache = new ReferenceCache<>("employee-picture-thumbnails", 5_000, Duration.ofMinutes(10),
+                meterRegistry);
+    }
+
+    /**
+     * Returns a handler for the small thumbnail of the picture of the given employee, or {@code null} if the employee
+     * has no picture.
+     */
     public @Nullable DownloadHandler findPicture(EmployeeId employeeId) {
-        return null; // TODO Implement me!
+        return findPicture(employeeId, EmployeePictureSize.SMALL);
+    }
+
+    /**
+     * Returns a handler for the thumbnail of the given size of the picture of the given employee, or {@code null} if
+     * the employee has no picture.
+     */
+    public @Nullable DownloadHandler findPicture(EmployeeId employeeId, EmployeePictureSize size) {
+        var smallThumbnail = findSmallThumbnail(employeeId);
+        if (smallThumbnail == null) {
+            return null;
+        }
+        var etag = thumbnailEtag(smallThumbnail.etag(), size);
+        if (size == EmployeePictureSize.SMALL) {
+            var cached = withEtag(smallThumbnail, etag);
+            return new PictureDownloadHandler(fileName(employeeId, size), etag, () -> cached);
+        }
+        return new PictureDownloadHandler(fileName(employeeId, size), etag,
+                () -> readOnlyTransaction.execute(status -> pictureRepository.findThumbnails(Set.of(employeeId), size)
+                        .values().stream()
+                        .map(thumbnail -> withEtag(thumbnail, thumbnailEtag(thumbnail.etag(), size)))
+                        .findFirst()
+                        .orElse(null)));
+    }
+
+    /**
+     * Returns a handler for the picture of the given employee as it was uploaded, or {@code null} if the employee has
+     * no picture.
+     */
+    public @Nullable DownloadHandler findOriginalPicture(EmployeeId employeeId) {
+        var etag = readOnlyTransaction.execute(status -> pictureRepository.findEtag(employeeId).orElse(null));
+        if (etag == null) {
+            return null;
+        }
+        return new PictureDownloadHandler("employee-" + employeeId.toLong(), etag,
+                () -> readOnlyTransaction.execute(status -> pictureRepository.findOriginal(employeeId).orElse(null)));
+    }
+
+    /**
+     * Stores the given picture for the given employee, replacing any previous picture. The thumbnails of all the
+     * {@linkplain EmployeePictureSize sizes} are generated right away.
+     *
+     * @throws IllegalArgumentException if the picture is too large, has too many pixels or is not in an image format
+     *                                  that can be read
+     */
+    @Transactional
+    @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_UPDATE + "')")
+    public void uploadPicture(EmployeeId employeeId, byte[] picture) {
+        if (picture.length > MAX_PICTURE_BYTES) {
+            throw new IllegalArgumentException("Picture is larger than " + MAX_PICTURE_BYTES + " bytes");
+        }
+        try {
+            var decoded = decode(picture);
+            var image = decoded.image();
+            var thumbnails = new EnumMap<EmployeePictureSize, StoredPicture>(EmployeePictureSize.class);
+            var etag = sha256(picture);
+            for (var size : EmployeePictureSize.values()) {
+                thumbnails.put(size, new StoredPicture(THUMBNAIL_CONTENT_TYPE, createThumbnail(image, size.pixels()),
+                        etag));
+            }
+            pictureRepository.save(employeeId,
+                    new StoredPicture("image/" + decoded.formatName().toLowerCase(Locale.ROOT), picture, etag), thumbnails);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        invalidateAfterCommit(employeeId);
+    }
+
+    @Transactional
+    @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_UPDATE + "')")
+    public void deletePicture(EmployeeId employeeId) {
+        pictureRepository.deleteById(employeeId);
+        invalidateAfterCommit(employeeId);
+    }
+
+    private @Nullable StoredPicture findSmallThumbnail(EmployeeId employeeId) {
+        return smallThumbnailCache.getAll(Set.of(employeeId), this::loadSmallThumbnails)
+                .getOrDefault(employeeId, Optional.empty())
+                .orElse(null);
+    }
+
+    private Map<EmployeeId, Optional<StoredPicture>> loadSmallThumbnails(Set<EmployeeId> ids) {
+        var thumbnails = readOnlyTransaction.execute(status ->
+                pictureRepository.findThumbnails(ids, EmployeePictureSize.SMALL));
+        return ids.stream().collect(Collectors.toMap(id -> id, id -> Optional.ofNullable(thumbnails.get(id))));
+    }
+
+    private void invalidateAfterCommit(EmployeeId employeeId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                smallThumbnailCache.invalidate(employeeId);
+            }
+        });
+    }
+
+    private static String fileName(EmployeeId employeeId, EmployeePictureSize size) {
+        return "employee-" + employeeId.toLong() + "-" + size.pixels() + ".jpg";
+    }
+
+    private static String thumbnailEtag(String pictureEtag, EmployeePictureSize size) {
+        return pictureEtag + "-" + size.pixels();
+    }
+
+    private static StoredPicture withEtag(StoredPicture picture, String etag) {
+        return new StoredPicture(picture.contentType(), picture.content(), etag);
+    }
+
+    private record DecodedPicture(String formatName, BufferedImage image) {
+    }
+
+    /**
+     * Decodes the picture, checking its dimensions from the header before the pixels are decoded.
+     */
+    private static DecodedPicture decode(byte[] picture) throws IOException {
+        try (var input = ImageIO.createImageInputStream(new ByteArrayInputStream(picture))) {
+            var readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Picture is not in a supported image format");
+            }
+            var reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PICTURE_PIXELS) {
+                    throw new IllegalArgumentException("Picture has more than " + MAX_PICTURE_PIXELS + " pixels");
+                }
+                return new DecodedPicture(reader.getFormatName(), reader.read(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales the center square of the image to the given size, on a white background in case the image is transparent.
+     */
+    private static byte[] createThumbnail(BufferedImage image, int pixels) throws IOException {
+        var side = Math.min(image.getWidth(), image.getHeight());
+        var x = (image.getWidth() - side) / 2;
+        var y = (image.getHeight() - side) / 2;
+        var thumbnail = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_RGB);
+        var graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, pixels, pixels);
+            graphics.drawImage(image, 0, 0, pixels, pixels, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        var writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var out = new ByteArrayOutputStream();
+        try (var output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            var param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(THUMBNAIL_QUALITY);
+            writer.write(null, new IIOImage(thumbnail, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.example.whereabouts.humanresources;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The fixed sizes that thumbnails of employee pictures are generated in when a picture is uploaded.
+ */
+@NullMarked
+public enum EmployeePictureSize {
+    /**
+     * For avatars in lists and cards.
+     */
+    SMALL(64),
+    /**
+     * For larger avatars, such as in the employee details.
+     */
+    MEDIUM(256);
+
+    private final int pixels;
+
+    EmployeePictureSize(int pixels) {
+        this.pixels = pixels;
+    }
+
+    /**
+     * Returns the width and height of the square thumbnail, in pixels.
+     */
+    public int pixels() {
+        return pixels;
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.whereabouts.humanresources;
 
+import com.example.whereabouts.common.ReferenceCache;
 import com.example.whereabouts.humanresources.internal.EmployeeReferenceQuery;
 import com.example.whereabouts.humanresources.internal.EmployeeRepository;
+import com.example.whereabouts.humanresources.internal.EmployeeViewQuery;
 import com.example.whereabouts.humanresources.internal.EmploymentDetailsRepository;
 import com.example.whereabouts.security.AppRoles;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_READ + "')")
@@ -22,13 +31,27 @@ public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final EmploymentDetailsRepository employmentDetailsRepository;
     private final EmployeeReferenceQuery employeeReferenceQuery;
+    private final EmployeeViewQuery employeeViewQuery;
+    private final CountryStatisticsCache countryStatisticsCache;
+    private final ReportCountCache reportCountCache;
+    private final ReferenceCache<EmployeeId, EmployeeReference> referenceCache;
 
     public EmployeeService(EmployeeRepository employeeRepository,
                            EmploymentDetailsRepository employmentDetailsRepository,
-                           EmployeeReferenceQuery employeeReferenceQuery) {
+                           EmployeeReferenceQuery employeeReferenceQuery,
+                           EmployeeViewQuery employeeViewQuery,
+                           CountryStatisticsCache countryStatisticsCache,
+                           ReportCountCache reportCountCache,
+                           MeterRegistry meterRegistry) {
         this.employeeRepository = employeeRepository;
         this.employmentDetailsRepository = employmentDetailsRepository;
         this.employeeReferenceQuery = employeeReferenceQuery;
+        this.employeeViewQuery = employeeViewQuery;
+        this.countryStatisticsCache = countryStatisticsCache;
+        this.reportCountCache = reportCountCache;
+        // Task grids resolve the assignees of every visible row, so the same references are read over and over
+        this.referenceCache = new ReferenceCache<>("employee-references", 10_000, Duration.ofMinutes(5),
+                meterRegistry);
     }
 
     @Transactional(readOnly = true)
@@ -38,12 +61,17 @@ public class EmployeeService {
 
     @Transactional(readOnly = true)
     public Set<EmployeeReference> findReferencesByIds(Set<EmployeeId> ids) {
-        return employeeReferenceQuery.findByIds(ids);
+        return Set.copyOf(referenceCache.getAll(ids, this::loadReferences).values());
     }
 
     @Transactional(readOnly = true)
     public Optional<EmployeeReference> findReferenceById(EmployeeId id) {
-        return employeeReferenceQuery.findByIds(Set.of(id)).stream().findFirst();
+        return Optional.ofNullable(referenceCache.getAll(Set.of(id), this::loadReferences).get(id));
+    }
+
+    private Map<EmployeeId, EmployeeReference> loadReferences(Set<EmployeeId> ids) {
+        return employeeReferenceQuery.findByIds(ids).stream()
+                .collect(Collectors.toMap(EmployeeReference::id, Function.identity()));
     }
 
     @Transactional
@@ -60,9 +88,19 @@ public class EmployeeService {
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_UPDATE + "')")
     public Employee update(Employee employee) {
+        invalidateReferenceAfterCommit(employee.id());
         return employeeRepository.update(employee);
     }
 
+    /**
+     * Loads everything the employee details page needs with a single query, instead of one query per
+     * {@link #findById(EmployeeId)}, {@link #findDetailsById(EmployeeId)} and reference lookup.
+     */
+    @Transactional(readOnly = true)
+    public Optional<EmployeeView> loadEmployeeView(EmployeeId id) {
+        return employeeViewQuery.findById(id);
+    }
+
     @Transactional(readOnly = true)
     public Optional<EmploymentDetails> findDetailsById(EmployeeId id) {
         return employmentDetailsRepository.findById(id);
@@ -71,12 +109,29 @@ public class EmployeeService {
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_CREATE + "')")
     public EmploymentDetails insertDetails(EmployeeId id, EmploymentDetailsData data) {
+        invalidateReferenceAfterCommit(id);
+        countryStatisticsCache.invalidateAfterCommit();
+        reportCountCache.invalidateAfterCommit();
         return employmentDetailsRepository.insert(id, data);
     }
 
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_UPDATE + "')")
     public EmploymentDetails updateDetails(EmploymentDetails details) {
+        invalidateReferenceAfterCommit(details.id());
+        countryStatisticsCache.invalidateAfterCommit();
+        reportCountCache.invalidateAfterCommit();
         return employmentDetailsRepository.update(details);
     }
+
+    private void invalidateReferenceAfterCommit(EmployeeId id) {
+        // Invalidating after the commit prevents other sessions from caching the reference again before the change
+        // is visible to them
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                referenceCache.invalidate(id);
+            }
+        });
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.whereabouts.humanresources;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Everything the employee details page shows about an employee: the employee, their employment details, and
+ * references to their manager and location. The details and the references are {@code null} if the employee has no
+ * employment details.
+ */
+@NullMarked
+public record EmployeeView(Employee employee, @Nullable EmploymentDetails details, @Nullable EmployeeReference manager,
+                           @Nullable LocationReference location) {
+}
@@ -6,6 +6,7 @@ import com.example.whereabouts.humanresources.internal.LocationTreeNodeQuery;
 import com.example.whereabouts.security.AppRoles;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -24,19 +25,37 @@ public class LocationService {
     private final LocationRepository locationRepository;
     private final LocationTreeNodeQuery locationTreeNodeQuery;
     private final LocationReferenceQuery locationReferenceQuery;
+    private final CountryStatisticsCache countryStatisticsCache;
+    private final int treeLoadThreshold;
 
-    LocationService(LocationRepository locationRepository, LocationTreeNodeQuery locationTreeNodeQuery, LocationReferenceQuery locationReferenceQuery) {
+    LocationService(LocationRepository locationRepository, LocationTreeNodeQuery locationTreeNodeQuery, LocationReferenceQuery locationReferenceQuery, CountryStatisticsCache countryStatisticsCache,
+                    @Value("${whereabouts.locations.tree-load-threshold:2000}") int treeLoadThreshold) {
         this.locationRepository = locationRepository;
         this.locationTreeNodeQuery = locationTreeNodeQuery;
         this.locationReferenceQuery = locationReferenceQuery;
+        this.countryStatisticsCache = countryStatisticsCache;
+        this.treeLoadThreshold = treeLoadThreshold;
+    }
+
+    /**
+     * Loads the whole location tree in a single query, or returns an empty {@code Optional} if there are more
+     * locations than the configured threshold. In that case, the tree should be loaded level by level with
+     * {@link #countChildren(LocationTreeNode)} and {@link #findChildren(LocationTreeNode, Pageable)}.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocationTree> loadTree() {
+        if (countryStatisticsCache.countLocations() > treeLoadThreshold) {
+            return Optional.empty();
+        }
+        return Optional.of(new LocationTree(locationTreeNodeQuery.findTree()));
     }
 
     @Transactional(readOnly = true)
     public int countChildren(@Nullable LocationTreeNode node) {
         if (node == null) {
-            return locationTreeNodeQuery.countCountriesWithLocations();
+            return countryStatisticsCache.countCountries();
         } else if (node instanceof LocationTreeNode.CountryNode countryNode) {
-            return locationTreeNodeQuery.countLocationsInCountry(countryNode.country());
+            return countryStatisticsCache.countLocations(countryNode.country());
         } else {
             return 0;
         }
@@ -50,7 +69,7 @@ public class LocationService {
     @Transactional(readOnly = true)
     public List<LocationTreeNode> findChildren(@Nullable LocationTreeNode node, Pageable pageable) {
         if (node == null) {
-            return locationTreeNodeQuery.findCountries(pageable);
+            return countryStatisticsCache.findCountries(pageable);
         } else if (node instanceof LocationTreeNode.CountryNode countryNode) {
             return locationTreeNodeQuery.findLocations(countryNode.country(), pageable);
         } else {
@@ -66,6 +85,7 @@ public class LocationService {
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.LOCATION_CREATE + "')")
     public LocationId insert(LocationData locationData) {
+        countryStatisticsCache.invalidateAfterCommit();
         return locationRepository.insert(locationData);
     }
 
@@ -77,6 +97,7 @@ public class LocationService {
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.LOCATION_UPDATE + "')")
     public Location update(Location location) {
+        countryStatisticsCache.invalidateAfterCommit();
         return locationRepository.update(location);
     }
 
@@ -85,6 +106,14 @@ public class LocationService {
         return locationReferenceQuery.findBySearchTerm(pageable, searchTerm);
     }
 
+    /**
+     * Finds locations by the city, postal code or region of their address, using the address indexes.
+     */
+    @Transactional(readOnly = true)
+    public List<LocationReference> findReferencesByAddress(Pageable pageable, AddressFilter filter) {
+        return locationReferenceQuery.findByAddress(pageable, filter);
+    }
+
     @Transactional(readOnly = true)
     public Optional<LocationReference> getReferenceById(LocationId id) {
         return locationReferenceQuery.findByIds(Set.of(id)).stream().findFirst();
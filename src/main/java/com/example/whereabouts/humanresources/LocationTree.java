@@ -0,0 +1,68 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.internal.LocationTreeRow;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The whole location tree, loaded in a single query. Serves the same counts and children as
+ * {@link LocationService#countChildren(LocationTreeNode)} and {@link LocationService#findChildren(LocationTreeNode, Pageable)}
+ * without going back to the database. The tree is a snapshot, and is not updated when locations change.
+ */
+@NullMarked
+public final class LocationTree {
+
+    private final List<LocationTreeNode.CountryNode> countries;
+    private final Map<Country, List<LocationTreeNode.LocationNode>> locationsByCountry;
+
+    LocationTree(List<LocationTreeRow> rows) {
+        var countries = new ArrayList<LocationTreeNode.CountryNode>();
+        var locationsByCountry = new HashMap<Country, List<LocationTreeNode.LocationNode>>();
+        for (var row : rows) {
+            locationsByCountry.computeIfAbsent(row.country().country(), country -> {
+                countries.add(row.country());
+                return new ArrayList<>();
+            }).add(row.location());
+        }
+        this.countries = countries;
+        this.locationsByCountry = locationsByCountry;
+    }
+
+    public int countChildren(@Nullable LocationTreeNode node) {
+        if (node == null) {
+            return countries.size();
+        } else if (node instanceof LocationTreeNode.CountryNode countryNode) {
+            return locationsByCountry.getOrDefault(countryNode.country(), List.of()).size();
+        } else {
+            return 0;
+        }
+    }
+
+    public List<LocationTreeNode> findChildren(@Nullable LocationTreeNode node, Pageable pageable) {
+        var sort = pageable.getSortOr(LocationTreeNodeComparators.DEFAULT_SORT);
+        if (node == null) {
+            return page(countries.stream().sorted(LocationTreeNodeComparators.countries(sort))
+                    .<LocationTreeNode>map(country -> country).toList(), pageable);
+        } else if (node instanceof LocationTreeNode.CountryNode countryNode) {
+            return page(locationsByCountry.getOrDefault(countryNode.country(), List.of()).stream()
+                    .sorted(LocationTreeNodeComparators.locations(sort))
+                    .<LocationTreeNode>map(location -> location).toList(), pageable);
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<LocationTreeNode> page(List<LocationTreeNode> nodes, Pageable pageable) {
+        var from = (int) Math.min(pageable.getOffset(), nodes.size());
+        var to = Math.min(from + pageable.getPageSize(), nodes.size());
+        return nodes.subList(from, to);
+    }
+}
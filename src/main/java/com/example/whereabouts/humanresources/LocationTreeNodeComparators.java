@@ -0,0 +1,47 @@
+package com.example.whereabouts.humanresources;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.data.domain.Sort;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Sorts location tree nodes in memory, for the parts of the tree that are served from memory. Countries are sorted by
+ * their display name in the default locale, and location types in the order they are declared in {@link LocationType}.
+ */
+@NullMarked
+final class LocationTreeNodeComparators {
+
+    static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, LocationSortableProperty.NAME.name());
+
+    private LocationTreeNodeComparators() {
+    }
+
+    static Comparator<LocationTreeNode.CountryNode> countries(Sort sort) {
+        var collator = Collator.getInstance();
+        return toComparator(sort, property -> switch (property) {
+            case NAME, LOCATION_TYPE -> Comparator.comparing(node -> node.country().displayName(), collator);
+            case EMPLOYEES -> Comparator.comparingInt(LocationTreeNode.CountryNode::employees);
+        }).thenComparing(node -> node.country().isoCode());
+    }
+
+    static Comparator<LocationTreeNode.LocationNode> locations(Sort sort) {
+        return toComparator(sort, property -> switch (property) {
+            case NAME -> Comparator.comparing(LocationTreeNode.LocationNode::name);
+            case LOCATION_TYPE -> Comparator.comparing(LocationTreeNode.LocationNode::locationType);
+            case EMPLOYEES -> Comparator.comparingInt(LocationTreeNode.LocationNode::employees);
+        }).thenComparing(node -> node.id().toLong());
+    }
+
+    private static <T> Comparator<T> toComparator(Sort sort,
+                                                  Function<LocationSortableProperty, Comparator<T>> propertyComparator) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (var order : sort) {
+            var property = propertyComparator.apply(LocationSortableProperty.valueOf(order.getProperty()));
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.whereabouts.humanresources;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * An employee in the reporting tree below another employee. The direct reports of that employee are on level 1, their
+ * reports on level 2, and so on.
+ */
+@NullMarked
+public record OrgChartEntry(EmployeeReference employee, EmployeeId manager, int level) {
+}
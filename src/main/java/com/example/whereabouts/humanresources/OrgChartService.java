@@ -0,0 +1,50 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.humanresources.internal.OrgChartQuery;
+import com.example.whereabouts.security.AppRoles;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@PreAuthorize("hasRole('" + AppRoles.EMPLOYEE_READ + "')")
+@NullMarked
+public class OrgChartService {
+
+    private final OrgChartQuery orgChartQuery;
+    private final ReportCountCache reportCountCache;
+
+    OrgChartService(OrgChartQuery orgChartQuery, ReportCountCache reportCountCache) {
+        this.orgChartQuery = orgChartQuery;
+        this.reportCountCache = reportCountCache;
+    }
+
+    /**
+     * Returns the managers of the given employee, starting from the direct manager and ending with the employee at the
+     * top of the reporting tree.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeReference> findReportingChain(EmployeeId id) {
+        return orgChartQuery.findReportingChain(id);
+    }
+
+    /**
+     * Returns the direct and indirect reports of the given employee, level by level.
+     */
+    @Transactional(readOnly = true)
+    public List<OrgChartEntry> findReports(EmployeeId id) {
+        return orgChartQuery.findReports(id);
+    }
+
+    /**
+     * Returns the number of direct and indirect reports of the given employee. The counts of all employees are cached,
+     * so this can be called for every node of an org chart.
+     */
+    @Transactional(readOnly = true)
+    public int countReports(EmployeeId id) {
+        return reportCountCache.countReports(id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.humanresources.internal.StoredPicture;
+import com.vaadin.flow.server.streams.DownloadEvent;
+import com.vaadin.flow.server.streams.DownloadHandler;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Serves a picture with an entity tag, so that browsers can revalidate their cached copy instead of downloading the
+ * picture again. The picture itself is only loaded when the browser does not already have the current version.
+ */
+@NullMarked
+final class PictureDownloadHandler implements DownloadHandler {
+
+    // Browsers may use their copy for a minute, after which they revalidate it with the entity tag
+    private static final String CACHE_CONTROL = "private, max-age=60, must-revalidate";
+    private static final int NOT_MODIFIED = 304;
+    private static final int NOT_FOUND = 404;
+
+    private final String fileName;
+    private final String etag;
+    private final Supplier<@Nullable StoredPicture> pictureLoader;
+
+    PictureDownloadHandler(String fileName, String etag, Supplier<@Nullable StoredPicture> pictureLoader) {
+        this.fileName = fileName;
+        this.etag = "\"" + etag + "\"";
+        this.pictureLoader = pictureLoader;
+    }
+
+    @Override
+    public void handleDownloadRequest(DownloadEvent event) throws IOException {
+        var response = event.getResponse();
+        var ifNoneMatch = event.getRequest().getHeader("If-None-Match");
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            response.setHeader("ETag", etag);
+            response.setHeader("Cache-Control", CACHE_CONTROL);
+            response.setStatus(NOT_MODIFIED);
+            return;
+        }
+        var picture = pictureLoader.get();
+        if (picture == null) {
+            // The picture was removed after the handler was created
+            response.setStatus(NOT_FOUND);
+            return;
+        }
+        // The entity tag of the loaded picture is used, in case the picture was replaced after the handler was created
+        response.setHeader("ETag", "\"" + picture.etag() + "\"");
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+        event.setFileName(fileName);
+        event.setContentType(picture.contentType());
+        event.setContentLength(picture.content().length);
+        try (var out = event.getOutputStream()) {
+            out.write(picture.content());
+        }
+    }
+
+    /**
+     * Checks whether the given {@code If-None-Match} header, a comma separated list of entity tags, contains the given
+     * entity tag. The comparison is weak, as required for {@code If-None-Match}, so {@code W/} prefixes are ignored.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (var tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.common.SnapshotCache;
+import com.example.whereabouts.humanresources.internal.OrgChartQuery;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Keeps the number of direct and indirect reports of every manager in memory, so that an org chart can show the size
+ * of every subtree without querying the reporting tree below each of its nodes.
+ * <p>
+ * The counts are loaded with a single query when first needed, and {@linkplain #invalidateAfterCommit() invalidated}
+ * by {@link EmployeeService} whenever the employment details of an employee are written. Like
+ * {@link CountryStatisticsCache}, the counts also expire after a while.
+ */
+@Component
+@NullMarked
+class ReportCountCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final SnapshotCache<Map<EmployeeId, Integer>> byManager;
+
+    ReportCountCache(OrgChartQuery orgChartQuery) {
+        this.byManager = new SnapshotCache<>(TIME_TO_LIVE, () -> Map.copyOf(orgChartQuery.countAllReports()));
+    }
+
+    /**
+     * Returns the number of direct and indirect reports of the given employee. Must be called within a transaction.
+     */
+    int countReports(EmployeeId id) {
+        return byManager.get().getOrDefault(id, 0);
+    }
+
+    /**
+     * Discards the cached counts once the current transaction commits.
+     */
+    void invalidateAfterCommit() {
+        byManager.invalidateAfterCommit();
+    }
+}
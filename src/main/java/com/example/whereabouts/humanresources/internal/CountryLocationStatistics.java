@@ -0,0 +1,11 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.common.Country;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The number of locations in a country, and the number of active employees working at those locations.
+ */
+@NullMarked
+public record CountryLocationStatistics(Country country, int locations, int activeEmployees) {
+}
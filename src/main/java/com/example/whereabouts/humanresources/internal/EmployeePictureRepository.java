@@ -0,0 +1,30 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.common.Repository;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeePictureSize;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@NullMarked
+public interface EmployeePictureRepository extends Repository {
+
+    Map<EmployeeId, StoredPicture> findThumbnails(Set<EmployeeId> ids, EmployeePictureSize size);
+
+    Optional<StoredPicture> findOriginal(EmployeeId id);
+
+    /**
+     * Returns the entity tag of the picture of the given employee without reading the picture itself.
+     */
+    Optional<String> findEtag(EmployeeId id);
+
+    /**
+     * Stores the picture of the given employee, replacing any previous picture and its thumbnails.
+     */
+    void save(EmployeeId id, StoredPicture original, Map<EmployeePictureSize, StoredPicture> thumbnails);
+
+    void deleteById(EmployeeId id);
+}
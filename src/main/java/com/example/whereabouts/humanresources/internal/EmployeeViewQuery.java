@@ -0,0 +1,13 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeView;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Optional;
+
+@NullMarked
+public interface EmployeeViewQuery {
+
+    Optional<EmployeeView> findById(EmployeeId id);
+}
@@ -1,5 +1,6 @@
 package com.example.whereabouts.humanresources.internal;
 
+import com.example.whereabouts.humanresources.AddressFilter;
 import com.example.whereabouts.humanresources.LocationId;
 import com.example.whereabouts.humanresources.LocationReference;
 import org.jspecify.annotations.NullMarked;
@@ -15,4 +16,6 @@ public interface LocationReferenceQuery {
     List<LocationReference> findBySearchTerm(Pageable pageable, @Nullable String searchTerm);
 
     Set<LocationReference> findByIds(Set<LocationId> ids);
+
+    List<LocationReference> findByAddress(Pageable pageable, AddressFilter filter);
 }
@@ -15,9 +15,24 @@ public interface LocationTreeNodeQuery {
 
     int countLocationsInCountry(Country country);
 
+    /**
+     * Returns a page of country nodes. Countries are sorted by ISO code when sorted by name, as the display names are
+     * not stored in the database. The location tree sorts the countries by display name in memory instead, see
+     * {@code CountryStatisticsCache}.
+     */
     List<LocationTreeNode> findCountries(Pageable pageable);
 
     List<LocationTreeNode> findLocations(Country country, Pageable pageable);
 
     Optional<LocationTreeNode.LocationNode> findLocationById(LocationId locationId);
+
+    /**
+     * Returns the statistics of every country that has at least one location, in a single query.
+     */
+    List<CountryLocationStatistics> findCountryStatistics();
+
+    /**
+     * Returns every location together with its country node, in a single query.
+     */
+    List<LocationTreeRow> findTree();
 }
@@ -0,0 +1,11 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.humanresources.LocationTreeNode;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A location together with the country it is in, for loading the whole location tree at once.
+ */
+@NullMarked
+public record LocationTreeRow(LocationTreeNode.CountryNode country, LocationTreeNode.LocationNode location) {
+}
@@ -0,0 +1,29 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeReference;
+import com.example.whereabouts.humanresources.OrgChartEntry;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.List;
+import java.util.Map;
+
+@NullMarked
+public interface OrgChartQuery {
+
+    /**
+     * Returns the managers of the given employee, starting from the direct manager, in a single query.
+     */
+    List<EmployeeReference> findReportingChain(EmployeeId id);
+
+    /**
+     * Returns the direct and indirect reports of the given employee, level by level, in a single query.
+     */
+    List<OrgChartEntry> findReports(EmployeeId id);
+
+    /**
+     * Returns the number of direct and indirect reports of every employee that has at least one report, in a single
+     * query.
+     */
+    Map<EmployeeId, Integer> countAllReports();
+}
@@ -0,0 +1,10 @@
+package com.example.whereabouts.humanresources.internal;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A picture as stored in the database. The entity tag identifies the uploaded picture and is shared by its thumbnails.
+ */
+@NullMarked
+public record StoredPicture(String contentType, byte[] content, String etag) {
+}
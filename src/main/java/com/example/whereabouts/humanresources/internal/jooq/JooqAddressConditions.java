@@ -0,0 +1,36 @@
+package com.example.whereabouts.humanresources.internal.jooq;
+
+import com.example.whereabouts.humanresources.AddressFilter;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Turns an {@link AddressFilter} into a condition on the generated address columns. The conditions compare
+ * {@code lower(column)}, which is what the address indexes are built on.
+ */
+@NullMarked
+final class JooqAddressConditions {
+
+    private JooqAddressConditions() {
+    }
+
+    static Condition toCondition(AddressFilter filter, Field<String> city, Field<String> postalCode,
+                                 Field<String> region) {
+        return DSL.and(
+                equalsIgnoreCase(city, filter.city()),
+                equalsIgnoreCase(postalCode, filter.postalCode()),
+                equalsIgnoreCase(region, filter.region()));
+    }
+
+    private static Condition equalsIgnoreCase(Field<String> field, @Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return DSL.noCondition();
+        }
+        return DSL.lower(field).eq(value.strip().toLowerCase(Locale.ROOT));
+    }
+}
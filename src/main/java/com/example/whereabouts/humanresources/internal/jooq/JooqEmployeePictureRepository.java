@@ -0,0 +1,107 @@
+package com.example.whereabouts.humanresources.internal.jooq;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeePictureSize;
+import com.example.whereabouts.humanresources.internal.EmployeePictureRepository;
+import com.example.whereabouts.humanresources.internal.StoredPicture;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.employeeIdConverter;
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE_PICTURE;
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE_PICTURE_THUMBNAIL;
+
+@Component
+@NullMarked
+class JooqEmployeePictureRepository implements EmployeePictureRepository {
+
+    private static final Field<EmployeeId> EMPLOYEE_ID = EMPLOYEE_PICTURE.EMPLOYEE_ID.convert(employeeIdConverter);
+    private static final Field<EmployeeId> THUMBNAIL_EMPLOYEE_ID = EMPLOYEE_PICTURE_THUMBNAIL.EMPLOYEE_ID.convert(employeeIdConverter);
+    private final DSLContext dsl;
+
+    JooqEmployeePictureRepository(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public Map<EmployeeId, StoredPicture> findThumbnails(Set<EmployeeId> ids, EmployeePictureSize size) {
+        return dsl.select(THUMBNAIL_EMPLOYEE_ID,
+                        EMPLOYEE_PICTURE_THUMBNAIL.CONTENT_TYPE,
+                        EMPLOYEE_PICTURE_THUMBNAIL.CONTENT,
+                        EMPLOYEE_PICTURE.ETAG)
+                .from(EMPLOYEE_PICTURE_THUMBNAIL)
+                .join(EMPLOYEE_PICTURE).on(EMPLOYEE_PICTURE.EMPLOYEE_ID.eq(EMPLOYEE_PICTURE_THUMBNAIL.EMPLOYEE_ID))
+                .where(THUMBNAIL_EMPLOYEE_ID.in(ids))
+                .and(EMPLOYEE_PICTURE_THUMBNAIL.SIZE.eq(size.pixels()))
+                .fetchMap(THUMBNAIL_EMPLOYEE_ID, record -> new StoredPicture(
+                        record.getValue(EMPLOYEE_PICTURE_THUMBNAIL.CONTENT_TYPE),
+                        record.getValue(EMPLOYEE_PICTURE_THUMBNAIL.CONTENT),
+                        record.getValue(EMPLOYEE_PICTURE.ETAG)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public Optional<StoredPicture> findOriginal(EmployeeId id) {
+        return dsl.select(EMPLOYEE_PICTURE.CONTENT_TYPE, EMPLOYEE_PICTURE.CONTENT, EMPLOYEE_PICTURE.ETAG)
+                .from(EMPLOYEE_PICTURE)
+                .where(EMPLOYEE_ID.eq(id))
+                .fetchOptional(record -> new StoredPicture(
+                        record.getValue(EMPLOYEE_PICTURE.CONTENT_TYPE),
+                        record.getValue(EMPLOYEE_PICTURE.CONTENT),
+                        record.getValue(EMPLOYEE_PICTURE.ETAG)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public Optional<String> findEtag(EmployeeId id) {
+        return dsl.select(EMPLOYEE_PICTURE.ETAG)
+                .from(EMPLOYEE_PICTURE)
+                .where(EMPLOYEE_ID.eq(id))
+                .fetchOptional(EMPLOYEE_PICTURE.ETAG);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void save(EmployeeId id, StoredPicture original, Map<EmployeePictureSize, StoredPicture> thumbnails) {
+        dsl.insertInto(EMPLOYEE_PICTURE)
+                .set(EMPLOYEE_ID, id)
+                .set(EMPLOYEE_PICTURE.CONTENT_TYPE, original.contentType())
+                .set(EMPLOYEE_PICTURE.CONTENT, original.content())
+                .set(EMPLOYEE_PICTURE.ETAG, original.etag())
+                .onConflict(EMPLOYEE_PICTURE.EMPLOYEE_ID)
+                .doUpdate()
+                .set(EMPLOYEE_PICTURE.CONTENT_TYPE, DSL.excluded(EMPLOYEE_PICTURE.CONTENT_TYPE))
+                .set(EMPLOYEE_PICTURE.CONTENT, DSL.excluded(EMPLOYEE_PICTURE.CONTENT))
+                .set(EMPLOYEE_PICTURE.ETAG, DSL.excluded(EMPLOYEE_PICTURE.ETAG))
+                .execute();
+        dsl.deleteFrom(EMPLOYEE_PICTURE_THUMBNAIL).where(THUMBNAIL_EMPLOYEE_ID.eq(id)).execute();
+        if (thumbnails.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(EMPLOYEE_PICTURE_THUMBNAIL, THUMBNAIL_EMPLOYEE_ID, EMPLOYEE_PICTURE_THUMBNAIL.SIZE,
+                EMPLOYEE_PICTURE_THUMBNAIL.CONTENT_TYPE, EMPLOYEE_PICTURE_THUMBNAIL.CONTENT);
+        for (var thumbnail : new TreeMap<>(thumbnails).entrySet()) {
+            insert = insert.values(id, thumbnail.getKey().pixels(), thumbnail.getValue().contentType(),
+                    thumbnail.getValue().content());
+        }
+        insert.execute();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void deleteById(EmployeeId id) {
+        // The thumbnails are deleted by the cascading foreign key
+        dsl.deleteFrom(EMPLOYEE_PICTURE).where(EMPLOYEE_ID.eq(id)).execute();
+    }
+}
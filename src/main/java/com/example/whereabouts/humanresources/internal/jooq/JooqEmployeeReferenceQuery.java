@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.*;
 import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
@@ -27,7 +28,8 @@ class JooqEmployeeReferenceQuery implements EmployeeReferenceQuery {
     private static final Field<EmployeeId> EMPLOYMENT_DETAILS_ID = EMPLOYMENT_DETAILS.EMPLOYEE_ID.convert(employeeIdConverter);
     private static final Field<EmploymentType> EMPLOYMENT_TYPE = EMPLOYMENT_DETAILS.EMPLOYMENT_TYPE.convert(employmentTypeConverter);
     private static final Field<EmploymentStatus> EMPLOYMENT_STATUS = EMPLOYMENT_DETAILS.EMPLOYMENT_STATUS.convert(employmentStatusConverter);
-    private static final Field<Country> COUNTRY = EMPLOYEE.COUNTRY.convert(countryConverter);
+    private static final ReferenceFields REFERENCE_FIELDS = ReferenceFields.of(EMPLOYEE, EMPLOYMENT_DETAILS);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, EmployeeSortableProperty.LAST_NAME.name(),
             EmployeeSortableProperty.FIRST_NAME.name());
     private final DSLContext dsl;
@@ -41,10 +43,11 @@ class JooqEmployeeReferenceQuery implements EmployeeReferenceQuery {
     public List<EmployeeReference> findByFilter(Pageable pageable, EmployeeFilter filter) {
         Condition condition = DSL.trueCondition();
         if (filter.searchTerm() != null && !filter.searchTerm().isBlank()) {
-            // TODO Should the search term be split by spaces and used individually?
-            //  Searching for a first and last name would now result in no hits.
-            condition = condition.and(EMPLOYEE.FIRST_NAME.containsIgnoreCase(filter.searchTerm())
-                    .or(EMPLOYEE.LAST_NAME.containsIgnoreCase(filter.searchTerm())));
+            // Every word of the search term must occur somewhere in the full name, so that searching for
+            // "John Smith" or "smi jo" finds John Smith. The trigram index on the full name is used for each word.
+            for (var word : WHITESPACE.split(filter.searchTerm().strip())) {
+                condition = condition.and(EMPLOYEE.FULL_NAME.containsIgnoreCase(word));
+            }
         }
         if (!filter.statuses().isEmpty()) {
             condition = condition.and(EMPLOYMENT_STATUS.in(filter.statuses()));
@@ -52,12 +55,14 @@ class JooqEmployeeReferenceQuery implements EmployeeReferenceQuery {
         if (!filter.types().isEmpty()) {
             condition = condition.and(EMPLOYMENT_TYPE.in(filter.types()));
         }
+        condition = condition.and(JooqAddressConditions.toCondition(filter.homeAddress(), EMPLOYEE.HOME_CITY,
+                EMPLOYEE.HOME_POSTAL_CODE, EMPLOYEE.HOME_REGION));
         return selectEmployee()
                 .where(condition)
                 .orderBy(toOrderFields(pageable.getSortOr(DEFAULT_SORT)))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch(Records.mapping(EmployeeReference::new));
+                .fetch(REFERENCE_FIELDS::toEmployeeReference);
     }
 
     @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
@@ -65,17 +70,11 @@ class JooqEmployeeReferenceQuery implements EmployeeReferenceQuery {
     public Set<EmployeeReference> findByIds(Set<EmployeeId> ids) {
         return selectEmployee()
                 .where(EMPLOYEE_ID.in(ids))
-                .fetchSet(Records.mapping(EmployeeReference::new));
+                .fetchSet(REFERENCE_FIELDS::toEmployeeReference);
     }
 
-    private SelectOnConditionStep<Record6<EmployeeId, String, String, String, Country, String>> selectEmployee() {
-        return dsl.select(
-                        EMPLOYEE_ID,
-                        EMPLOYEE.FIRST_NAME,
-                        EMPLOYEE.MIDDLE_NAME,
-                        EMPLOYEE.LAST_NAME,
-                        COUNTRY,
-                        EMPLOYMENT_DETAILS.JOB_TITLE)
+    private SelectOnConditionStep<Record> selectEmployee() {
+        return dsl.select(REFERENCE_FIELDS.fields())
                 .from(EMPLOYEE)
                 .leftJoin(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS_ID.eq(EMPLOYEE_ID));
     }
@@ -91,4 +90,28 @@ class JooqEmployeeReferenceQuery implements EmployeeReferenceQuery {
             case LAST_NAME -> order.isAscending() ? EMPLOYEE.LAST_NAME.asc() : EMPLOYEE.LAST_NAME.desc();
         };
     }
+
+    /**
+     * The fields of an employee reference. The tables may be aliased, so that queries can join the reference of
+     * another employee, such as the manager of an employee.
+     */
+    record ReferenceFields(Field<EmployeeId> id, Field<String> firstName, Field<String> middleName,
+                           Field<String> lastName, Field<Country> country, Field<String> jobTitle) {
+
+        static ReferenceFields of(com.example.whereabouts.jooq.tables.Employee employee,
+                                  com.example.whereabouts.jooq.tables.EmploymentDetails employmentDetails) {
+            return new ReferenceFields(employee.EMPLOYEE_ID.convert(employeeIdConverter), employee.FIRST_NAME,
+                    employee.MIDDLE_NAME, employee.LAST_NAME, employee.COUNTRY.convert(countryConverter),
+                    employmentDetails.JOB_TITLE);
+        }
+
+        List<Field<?>> fields() {
+            return List.of(id, firstName, middleName, lastName, country, jobTitle);
+        }
+
+        EmployeeReference toEmployeeReference(Record record) {
+            return new EmployeeReference(record.get(id), record.get(firstName), record.get(middleName),
+                    record.get(lastName), record.get(country), record.get(jobTitle));
+        }
+    }
 }
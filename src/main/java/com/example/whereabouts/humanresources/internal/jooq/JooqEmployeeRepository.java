@@ -1,16 +1,25 @@
 package com.example.whereabouts.humanresources.internal.jooq;
 
+import com.example.whereabouts.common.EmailAddress;
+import com.example.whereabouts.common.Gender;
+import com.example.whereabouts.common.PhoneNumber;
+import com.example.whereabouts.common.address.PostalAddress;
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
 import com.example.whereabouts.humanresources.Employee;
 import com.example.whereabouts.humanresources.EmployeeData;
 import com.example.whereabouts.humanresources.EmployeeId;
 import com.example.whereabouts.humanresources.internal.EmployeeRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.*;
@@ -21,66 +30,79 @@ import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
 @NullMarked
 class JooqEmployeeRepository implements EmployeeRepository {
 
+    private static final Field<Gender> GENDER = EMPLOYEE.GENDER.convert(genderConverter);
+    private static final Field<PostalAddress> HOME_ADDRESS = EMPLOYEE.HOME_ADDRESS.convert(postalAddressConverter);
+    private static final Field<ZoneId> TIME_ZONE = EMPLOYEE.TIME_ZONE.convert(zoneIdConverter);
+    private static final Field<PhoneNumber> WORK_PHONE = EMPLOYEE.WORK_PHONE.convert(phoneNumberConverter);
+    private static final Field<PhoneNumber> MOBILE_PHONE = EMPLOYEE.MOBILE_PHONE.convert(phoneNumberConverter);
+    private static final Field<PhoneNumber> HOME_PHONE = EMPLOYEE.HOME_PHONE.convert(phoneNumberConverter);
+    private static final Field<EmailAddress> WORK_EMAIL = EMPLOYEE.WORK_EMAIL.convert(emailConverter);
+
+    /**
+     * The fields that {@link #toEmployee(Record)} reads, also used by queries that join the employee with other tables.
+     */
+    static final List<Field<?>> EMPLOYEE_FIELDS = List.of(
+            EMPLOYEE.EMPLOYEE_ID,
+            EMPLOYEE.VERSION,
+            EMPLOYEE.FIRST_NAME,
+            EMPLOYEE.MIDDLE_NAME,
+            EMPLOYEE.LAST_NAME,
+            EMPLOYEE.PREFERRED_NAME,
+            EMPLOYEE.BIRTH_DATE,
+            GENDER,
+            EMPLOYEE.DIETARY_NOTES,
+            TIME_ZONE,
+            HOME_ADDRESS,
+            WORK_PHONE,
+            MOBILE_PHONE,
+            HOME_PHONE,
+            WORK_EMAIL
+    );
+
     private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
 
-    JooqEmployeeRepository(DSLContext dsl) {
+    JooqEmployeeRepository(DSLContext dsl, IdBlockAllocator idAllocator) {
         this.dsl = dsl;
+        this.idAllocator = idAllocator;
     }
 
     @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
     @Override
     public Optional<Employee> findById(EmployeeId id) {
-        var GENDER = EMPLOYEE.GENDER.convert(genderConverter);
-        var HOME_ADDRESS = EMPLOYEE.HOME_ADDRESS.convert(postalAddressConverter);
-        var TIME_ZONE = EMPLOYEE.TIME_ZONE.convert(zoneIdConverter);
-        var WORK_PHONE = EMPLOYEE.WORK_PHONE.convert(phoneNumberConverter);
-        var MOBILE_PHONE = EMPLOYEE.MOBILE_PHONE.convert(phoneNumberConverter);
-        var HOME_PHONE = EMPLOYEE.HOME_PHONE.convert(phoneNumberConverter);
-        var WORK_EMAIL = EMPLOYEE.WORK_EMAIL.convert(emailConverter);
         return dsl
-                .select(EMPLOYEE.EMPLOYEE_ID,
-                        EMPLOYEE.VERSION,
-                        EMPLOYEE.FIRST_NAME,
-                        EMPLOYEE.MIDDLE_NAME,
-                        EMPLOYEE.LAST_NAME,
-                        EMPLOYEE.PREFERRED_NAME,
-                        EMPLOYEE.BIRTH_DATE,
-                        GENDER,
-                        EMPLOYEE.DIETARY_NOTES,
-                        TIME_ZONE,
-                        HOME_ADDRESS,
-                        WORK_PHONE,
-                        MOBILE_PHONE,
-                        HOME_PHONE,
-                        WORK_EMAIL
-                )
+                .select(EMPLOYEE_FIELDS)
                 .from(EMPLOYEE)
                 .where(EMPLOYEE.EMPLOYEE_ID.eq(id.toLong()))
-                .fetchOptional(record -> new Employee(
-                        EmployeeId.of(record.getValue(EMPLOYEE.EMPLOYEE_ID)),
-                        record.getValue(EMPLOYEE.VERSION),
-                        new EmployeeData(
-                                record.getValue(EMPLOYEE.FIRST_NAME),
-                                record.getValue(EMPLOYEE.MIDDLE_NAME),
-                                record.getValue(EMPLOYEE.LAST_NAME),
-                                record.getValue(EMPLOYEE.PREFERRED_NAME),
-                                record.getValue(EMPLOYEE.BIRTH_DATE),
-                                record.getValue(GENDER),
-                                record.getValue(EMPLOYEE.DIETARY_NOTES),
-                                record.getValue(TIME_ZONE),
-                                record.getValue(HOME_ADDRESS),
-                                record.getValue(WORK_PHONE),
-                                record.getValue(MOBILE_PHONE),
-                                record.getValue(HOME_PHONE),
-                                record.getValue(WORK_EMAIL)
-                        )
-                ));
+                .fetchOptional(JooqEmployeeRepository::toEmployee);
+    }
+
+    static Employee toEmployee(Record record) {
+        return new Employee(
+                EmployeeId.of(record.get(EMPLOYEE.EMPLOYEE_ID)),
+                record.get(EMPLOYEE.VERSION),
+                new EmployeeData(
+                        record.get(EMPLOYEE.FIRST_NAME),
+                        record.get(EMPLOYEE.MIDDLE_NAME),
+                        record.get(EMPLOYEE.LAST_NAME),
+                        record.get(EMPLOYEE.PREFERRED_NAME),
+                        record.get(EMPLOYEE.BIRTH_DATE),
+                        record.get(GENDER),
+                        record.get(EMPLOYEE.DIETARY_NOTES),
+                        record.get(TIME_ZONE),
+                        record.get(HOME_ADDRESS),
+                        record.get(WORK_PHONE),
+                        record.get(MOBILE_PHONE),
+                        record.get(HOME_PHONE),
+                        record.get(WORK_EMAIL)
+                )
+        );
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public EmployeeId insert(EmployeeData employeeData) {
-        var id = EmployeeId.of(dsl.nextval(EMPLOYEE_ID_SEQ));
+        var id = EmployeeId.of(idAllocator.nextId(EMPLOYEE_ID_SEQ));
         dsl.insertInto(EMPLOYEE)
                 .set(EMPLOYEE.EMPLOYEE_ID, id.toLong())
                 .set(EMPLOYEE.VERSION, 1L)
@@ -0,0 +1,72 @@
+package com.example.whereabouts.humanresources.internal.jooq;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeView;
+import com.example.whereabouts.humanresources.internal.EmployeeViewQuery;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.example.whereabouts.jooq.Tables.*;
+
+/**
+ * Reads the employee, their employment details, and their manager and location references with a single query. The
+ * employment details, the manager and the location are left joined, so an employee without employment details is
+ * still found. The fields are read the same way as by the repositories and reference queries.
+ */
+@Component
+@NullMarked
+class JooqEmployeeViewQuery implements EmployeeViewQuery {
+
+    private static final com.example.whereabouts.jooq.tables.Employee MANAGER = EMPLOYEE.as("manager");
+    private static final com.example.whereabouts.jooq.tables.EmploymentDetails MANAGER_DETAILS = EMPLOYMENT_DETAILS.as("manager_details");
+    private static final JooqEmployeeReferenceQuery.ReferenceFields MANAGER_REFERENCE_FIELDS =
+            JooqEmployeeReferenceQuery.ReferenceFields.of(MANAGER, MANAGER_DETAILS);
+
+    private static final List<Field<?>> FIELDS = Stream.of(
+            JooqEmployeeRepository.EMPLOYEE_FIELDS,
+            JooqEmploymentDetailsRepository.EMPLOYMENT_DETAILS_FIELDS,
+            MANAGER_REFERENCE_FIELDS.fields(),
+            JooqLocationReferenceQuery.REFERENCE_FIELDS
+    ).<Field<?>>flatMap(List::stream).toList();
+
+    private final DSLContext dsl;
+
+    JooqEmployeeViewQuery(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public Optional<EmployeeView> findById(EmployeeId id) {
+        return dsl
+                .select(FIELDS)
+                .from(EMPLOYEE)
+                .leftJoin(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.EMPLOYEE_ID.eq(EMPLOYEE.EMPLOYEE_ID))
+                .leftJoin(MANAGER).on(MANAGER.EMPLOYEE_ID.eq(EMPLOYMENT_DETAILS.MANAGER_ID))
+                .leftJoin(MANAGER_DETAILS).on(MANAGER_DETAILS.EMPLOYEE_ID.eq(MANAGER.EMPLOYEE_ID))
+                .leftJoin(LOCATION).on(LOCATION.LOCATION_ID.eq(EMPLOYMENT_DETAILS.LOCATION_ID))
+                .where(EMPLOYEE.EMPLOYEE_ID.eq(id.toLong()))
+                .fetchOptional(this::toEmployeeView);
+    }
+
+    private EmployeeView toEmployeeView(Record record) {
+        var employee = JooqEmployeeRepository.toEmployee(record);
+        if (record.get(JooqEmploymentDetailsRepository.EMPLOYEE_ID) == null) {
+            return new EmployeeView(employee, null, null, null);
+        }
+        var details = JooqEmploymentDetailsRepository.toEmploymentDetails(record);
+        var manager = details.data().manager() == null ? null
+                : MANAGER_REFERENCE_FIELDS.toEmployeeReference(record);
+        var location = JooqLocationReferenceQuery.toLocationReference(record);
+        return new EmployeeView(employee, details, manager, location);
+    }
+}
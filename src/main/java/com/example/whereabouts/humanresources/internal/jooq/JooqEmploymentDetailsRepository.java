@@ -4,12 +4,14 @@ import com.example.whereabouts.humanresources.*;
 import com.example.whereabouts.humanresources.internal.EmploymentDetailsRepository;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Record;
 import org.jspecify.annotations.NonNull;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.*;
@@ -18,12 +20,30 @@ import static com.example.whereabouts.jooq.Tables.EMPLOYMENT_DETAILS;
 @Component
 class JooqEmploymentDetailsRepository implements EmploymentDetailsRepository {
 
-    private static final Field<EmployeeId> EMPLOYEE_ID = EMPLOYMENT_DETAILS.EMPLOYEE_ID.convert(employeeIdConverter);
+    static final Field<EmployeeId> EMPLOYEE_ID = EMPLOYMENT_DETAILS.EMPLOYEE_ID.convert(employeeIdConverter);
     private static final Field<EmployeeId> MANAGER_ID = EMPLOYMENT_DETAILS.MANAGER_ID.convert(employeeIdConverter);
     private static final Field<LocationId> LOCATION_ID = EMPLOYMENT_DETAILS.LOCATION_ID.convert(locationIdConverter);
     private static final Field<EmploymentType> EMPLOYMENT_TYPE = EMPLOYMENT_DETAILS.EMPLOYMENT_TYPE.convert(employmentTypeConverter);
     private static final Field<EmploymentStatus> EMPLOYMENT_STATUS = EMPLOYMENT_DETAILS.EMPLOYMENT_STATUS.convert(employmentStatusConverter);
     private static final Field<WorkArrangement> WORK_ARRANGEMENT = EMPLOYMENT_DETAILS.WORK_ARRANGEMENT.convert(workArrangementConverter);
+
+    /**
+     * The fields that {@link #toEmploymentDetails(Record)} reads, also used by queries that join the employment
+     * details with other tables.
+     */
+    static final List<Field<?>> EMPLOYMENT_DETAILS_FIELDS = List.of(
+            EMPLOYEE_ID,
+            EMPLOYMENT_DETAILS.VERSION,
+            EMPLOYMENT_DETAILS.JOB_TITLE,
+            EMPLOYMENT_TYPE,
+            EMPLOYMENT_STATUS,
+            WORK_ARRANGEMENT,
+            LOCATION_ID,
+            MANAGER_ID,
+            EMPLOYMENT_DETAILS.HIRE_DATE,
+            EMPLOYMENT_DETAILS.TERMINATION_DATE
+    );
+
     private final DSLContext dsl;
 
     JooqEmploymentDetailsRepository(@NonNull DSLContext dsl) {
@@ -34,33 +54,27 @@ class JooqEmploymentDetailsRepository implements EmploymentDetailsRepository {
     @Override
     public @NonNull Optional<EmploymentDetails> findById(@NonNull EmployeeId id) {
         return dsl
-                .select(EMPLOYEE_ID,
-                        EMPLOYMENT_DETAILS.VERSION,
-                        EMPLOYMENT_DETAILS.JOB_TITLE,
-                        EMPLOYMENT_TYPE,
-                        EMPLOYMENT_STATUS,
-                        WORK_ARRANGEMENT,
-                        LOCATION_ID,
-                        MANAGER_ID,
-                        EMPLOYMENT_DETAILS.HIRE_DATE,
-                        EMPLOYMENT_DETAILS.TERMINATION_DATE
-                )
+                .select(EMPLOYMENT_DETAILS_FIELDS)
                 .from(EMPLOYMENT_DETAILS)
                 .where(EMPLOYEE_ID.eq(id))
-                .fetchOptional(record -> new EmploymentDetails(
-                        record.getValue(EMPLOYEE_ID),
-                        record.getValue(EMPLOYMENT_DETAILS.VERSION),
-                        new EmploymentDetailsData(
-                                record.getValue(EMPLOYMENT_DETAILS.JOB_TITLE),
-                                record.getValue(EMPLOYMENT_TYPE),
-                                record.getValue(EMPLOYMENT_STATUS),
-                                record.getValue(WORK_ARRANGEMENT),
-                                record.getValue(LOCATION_ID),
-                                record.getValue(MANAGER_ID),
-                                record.getValue(EMPLOYMENT_DETAILS.HIRE_DATE),
-                                record.getValue(EMPLOYMENT_DETAILS.TERMINATION_DATE)
-                        )
-                ));
+                .fetchOptional(JooqEmploymentDetailsRepository::toEmploymentDetails);
+    }
+
+    static @NonNull EmploymentDetails toEmploymentDetails(@NonNull Record record) {
+        return new EmploymentDetails(
+                record.get(EMPLOYEE_ID),
+                record.get(EMPLOYMENT_DETAILS.VERSION),
+                new EmploymentDetailsData(
+                        record.get(EMPLOYMENT_DETAILS.JOB_TITLE),
+                        record.get(EMPLOYMENT_TYPE),
+                        record.get(EMPLOYMENT_STATUS),
+                        record.get(WORK_ARRANGEMENT),
+                        record.get(LOCATION_ID),
+                        record.get(MANAGER_ID),
+                        record.get(EMPLOYMENT_DETAILS.HIRE_DATE),
+                        record.get(EMPLOYMENT_DETAILS.TERMINATION_DATE)
+                )
+        );
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
@@ -1,6 +1,7 @@
 package com.example.whereabouts.humanresources.internal.jooq;
 
 import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.AddressFilter;
 import com.example.whereabouts.humanresources.LocationId;
 import com.example.whereabouts.humanresources.LocationReference;
 import com.example.whereabouts.humanresources.internal.LocationReferenceQuery;
@@ -27,6 +28,12 @@ class JooqLocationReferenceQuery implements LocationReferenceQuery {
     private static final Field<LocationId> LOCATION_ID = LOCATION.LOCATION_ID.convert(locationIdConverter);
     private static final Field<Country> COUNTRY = LOCATION.COUNTRY.convert(countryConverter);
 
+    /**
+     * The fields that {@link #toLocationReference(Record)} reads, also used by queries that join the location with
+     * other tables.
+     */
+    static final List<Field<?>> REFERENCE_FIELDS = List.of(LOCATION_ID, LOCATION.NAME, COUNTRY);
+
     private final DSLContext dsl;
 
     JooqLocationReferenceQuery(DSLContext dsl) {
@@ -54,6 +61,18 @@ class JooqLocationReferenceQuery implements LocationReferenceQuery {
                 .fetchSet(Records.mapping(LocationReference::new));
     }
 
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public List<LocationReference> findByAddress(Pageable pageable, AddressFilter filter) {
+        return selectLocation()
+                .where(JooqAddressConditions.toCondition(filter, LOCATION.ADDRESS_CITY, LOCATION.ADDRESS_POSTAL_CODE,
+                        LOCATION.ADDRESS_REGION))
+                .orderBy(LOCATION.NAME, LOCATION.LOCATION_ID)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch(Records.mapping(LocationReference::new));
+    }
+
     private SelectJoinStep<Record3<LocationId, String, Country>> selectLocation() {
         return dsl.select(
                         LOCATION_ID,
@@ -61,4 +80,8 @@ class JooqLocationReferenceQuery implements LocationReferenceQuery {
                         COUNTRY)
                 .from(LOCATION);
     }
+
+    static LocationReference toLocationReference(Record record) {
+        return new LocationReference(record.get(LOCATION_ID), record.get(LOCATION.NAME), record.get(COUNTRY));
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.whereabouts.humanresources.internal.jooq;
 
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
 import com.example.whereabouts.humanresources.Location;
 import com.example.whereabouts.humanresources.LocationData;
 import com.example.whereabouts.humanresources.LocationFacility;
@@ -15,7 +16,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Optional;
 
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.*;
@@ -28,9 +31,11 @@ import static com.example.whereabouts.jooq.tables.LocationFacility.LOCATION_FACI
 class JooqLocationRepository implements LocationRepository {
 
     private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
 
-    JooqLocationRepository(DSLContext dsl) {
+    JooqLocationRepository(DSLContext dsl, IdBlockAllocator idAllocator) {
         this.dsl = dsl;
+        this.idAllocator = idAllocator;
     }
 
     @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
@@ -74,7 +79,7 @@ class JooqLocationRepository implements LocationRepository {
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public LocationId insert(LocationData locationData) {
-        var id = LocationId.of(dsl.nextval(LOCATION_ID_SEQ));
+        var id = LocationId.of(idAllocator.nextId(LOCATION_ID_SEQ));
         dsl.insertInto(LOCATION)
                 .set(LOCATION.LOCATION_ID, id.toLong())
                 .set(LOCATION.VERSION, 1L)
@@ -112,15 +117,41 @@ class JooqLocationRepository implements LocationRepository {
             throw new OptimisticLockingFailureException("Location was modified by another user");
         }
 
-        dsl.deleteFrom(LOCATION_FACILITY)
-                .where(LOCATION_FACILITY.LOCATION_ID.eq(location.id().toLong()))
-                .execute();
-
-        insertFacilities(location.id(), location.data().facilities());
+        updateFacilities(location.id(), location.data().facilities());
 
         return new Location(location.id(), newVersion, location.data());
     }
 
+    private void updateFacilities(LocationId locationId, Collection<LocationFacility> facilities) {
+        // Only touch the rows that actually changed, most updates don't change the facilities at all
+        var current = new HashMap<>(dsl.selectFrom(LOCATION_FACILITY)
+                .where(LOCATION_FACILITY.LOCATION_ID.eq(locationId.toLong()))
+                .fetchMap(LOCATION_FACILITY.FACILITY_TYPE));
+        var changed = new ArrayList<LocationFacilityRecord>();
+        var added = new ArrayList<LocationFacility>();
+        for (var facility : facilities) {
+            var record = dsl.newRecord(LOCATION_FACILITY);
+            toRecord(record, facility);
+            var existing = current.remove(record.getFacilityType());
+            if (existing == null) {
+                added.add(facility);
+            } else if (!existing.getQuantity().equals(record.getQuantity())) {
+                existing.setQuantity(record.getQuantity());
+                changed.add(existing);
+            }
+        }
+        if (!current.isEmpty()) {
+            dsl.deleteFrom(LOCATION_FACILITY)
+                    .where(LOCATION_FACILITY.LOCATION_ID.eq(locationId.toLong()))
+                    .and(LOCATION_FACILITY.FACILITY_TYPE.in(current.keySet()))
+                    .execute();
+        }
+        if (!changed.isEmpty()) {
+            dsl.batchUpdate(changed).execute();
+        }
+        insertFacilities(locationId, added);
+    }
+
     private void insertFacilities(LocationId locationId, Collection<LocationFacility> facilities) {
         if (facilities.isEmpty()) {
             return;
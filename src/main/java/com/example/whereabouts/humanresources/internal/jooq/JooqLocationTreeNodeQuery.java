@@ -6,7 +6,9 @@ import com.example.whereabouts.humanresources.LocationId;
 import com.example.whereabouts.humanresources.LocationSortableProperty;
 import com.example.whereabouts.humanresources.LocationTreeNode;
 import com.example.whereabouts.humanresources.LocationType;
+import com.example.whereabouts.humanresources.internal.CountryLocationStatistics;
 import com.example.whereabouts.humanresources.internal.LocationTreeNodeQuery;
+import com.example.whereabouts.humanresources.internal.LocationTreeRow;
 import com.example.whereabouts.jooq.enums.EmploymentStatus;
 import org.jooq.*;
 import org.jspecify.annotations.NullMarked;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.locationTypeConverter;
 import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.postalAddressConverter;
@@ -26,6 +29,8 @@ import static com.example.whereabouts.jooq.Tables.LOCATION;
 import static java.util.Objects.requireNonNull;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.countDistinct;
+import static org.jooq.impl.DSL.partitionBy;
+import static org.jooq.impl.DSL.sum;
 
 @Component
 @NullMarked
@@ -93,6 +98,45 @@ class JooqLocationTreeNodeQuery implements LocationTreeNodeQuery {
                 .fetchOptional(Records.mapping(LocationTreeNode.LocationNode::new));
     }
 
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public List<CountryLocationStatistics> findCountryStatistics() {
+        return dsl.select(
+                        COUNTRY,
+                        countDistinct(LOCATION.LOCATION_ID),
+                        EMPLOYEES
+                )
+                .from(LOCATION)
+                .leftJoin(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.LOCATION_ID.eq(LOCATION.LOCATION_ID)
+                        .and(EMPLOYMENT_DETAILS.EMPLOYMENT_STATUS.eq(EmploymentStatus.ACTIVE)))
+                .groupBy(COUNTRY)
+                .fetch(Records.mapping(CountryLocationStatistics::new));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public List<LocationTreeRow> findTree() {
+        // The active employees of the country are summed over the grouped location rows by a window function, so
+        // that the country nodes come with the locations in the same round-trip
+        var countryEmployees = sum(EMPLOYEES).over(partitionBy(LOCATION.COUNTRY));
+        return dsl.select(
+                        COUNTRY,
+                        countryEmployees,
+                        LOCATION.LOCATION_ID.convertFrom(LocationId::of),
+                        LOCATION.NAME,
+                        EMPLOYEES,
+                        LOCATION.LOCATION_TYPE.convert(locationTypeConverter),
+                        LOCATION.ADDRESS.convert(postalAddressConverter))
+                .from(LOCATION)
+                .leftJoin(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.LOCATION_ID.eq(LOCATION.LOCATION_ID)
+                        .and(EMPLOYMENT_DETAILS.EMPLOYMENT_STATUS.eq(EmploymentStatus.ACTIVE)))
+                .groupBy(LOCATION.LOCATION_ID)
+                .fetch(record -> new LocationTreeRow(
+                        new LocationTreeNode.CountryNode(record.value1(), record.value2().intValue()),
+                        new LocationTreeNode.LocationNode(record.value3(), record.value4(), record.value5(),
+                                record.value6(), record.value7())));
+    }
+
     private SelectOnConditionStep<Record5<LocationId, String, Integer, LocationType, PostalAddress>> selectLocation() {
         return dsl.select(
                         LOCATION.LOCATION_ID.convertFrom(LocationId::of),
@@ -119,14 +163,15 @@ class JooqLocationTreeNodeQuery implements LocationTreeNodeQuery {
     }
 
     private List<? extends OrderField<?>> toCountryNodeOrderFields(Sort sort) {
-        return sort.stream().map(this::toCountryNodeOrderField).toList();
+        // Sorted by ISO code last, like LocationTreeNodeComparators does, so that pages do not overlap
+        return Stream.concat(sort.stream().map(this::toCountryNodeOrderField), Stream.of(COUNTRY.asc())).toList();
     }
 
     private OrderField<?> toCountryNodeOrderField(Sort.Order order) {
         var property = LocationSortableProperty.valueOf(order.getProperty());
         return switch (property) {
-            case NAME, LOCATION_TYPE ->
-                    order.isAscending() ? COUNTRY.asc() : COUNTRY.desc(); // TODO This sorts by ISO code, not by display name. It will look wrong in the UI.
+            // The database does not know the display names, see LocationTreeNodeQuery#findCountries(Pageable)
+            case NAME, LOCATION_TYPE -> order.isAscending() ? COUNTRY.asc() : COUNTRY.desc();
             case EMPLOYEES -> order.isAscending() ? EMPLOYEES.asc() : EMPLOYEES.desc();
         };
     }
@@ -0,0 +1,134 @@
+package com.example.whereabouts.humanresources.internal.jooq;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeReference;
+import com.example.whereabouts.humanresources.OrgChartEntry;
+import com.example.whereabouts.humanresources.internal.OrgChartQuery;
+import org.jooq.*;
+import org.jooq.impl.SQLDataType;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.countryConverter;
+import static com.example.whereabouts.humanresources.internal.jooq.JooqConverters.employeeIdConverter;
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
+import static com.example.whereabouts.jooq.Tables.EMPLOYMENT_DETAILS;
+import static org.jooq.impl.DSL.*;
+
+/**
+ * Walks the reporting tree formed by {@code employment_details.manager_id} with recursive common table expressions.
+ * Nothing prevents the tree from containing a cycle, so every walk stops at {@link #MAX_DEPTH} levels.
+ */
+@Component
+@NullMarked
+class JooqOrgChartQuery implements OrgChartQuery {
+
+    private static final int MAX_DEPTH = 50;
+
+    private static final Name CHAIN = name("chain");
+    private static final Field<Long> CHAIN_EMPLOYEE_ID = field(name("chain", "employee_id"), SQLDataType.BIGINT);
+    private static final Field<Integer> CHAIN_DEPTH = field(name("chain", "depth"), SQLDataType.INTEGER);
+
+    private static final Name REPORTS = name("reports");
+    private static final Field<Long> REPORTS_EMPLOYEE_ID = field(name("reports", "employee_id"), SQLDataType.BIGINT);
+    private static final Field<Long> REPORTS_MANAGER_ID = field(name("reports", "manager_id"), SQLDataType.BIGINT);
+    private static final Field<Integer> REPORTS_DEPTH = field(name("reports", "depth"), SQLDataType.INTEGER);
+
+    private static final Field<EmployeeId> EMPLOYEE_ID = EMPLOYEE.EMPLOYEE_ID.convert(employeeIdConverter);
+    private static final Field<Country> COUNTRY = EMPLOYEE.COUNTRY.convert(countryConverter);
+
+    private final DSLContext dsl;
+
+    JooqOrgChartQuery(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public List<EmployeeReference> findReportingChain(EmployeeId id) {
+        var chain = CHAIN.fields("employee_id", "depth").as(
+                select(EMPLOYMENT_DETAILS.MANAGER_ID, inline(1))
+                        .from(EMPLOYMENT_DETAILS)
+                        .where(EMPLOYMENT_DETAILS.EMPLOYEE_ID.eq(id.toLong()))
+                        .unionAll(select(EMPLOYMENT_DETAILS.MANAGER_ID, CHAIN_DEPTH.plus(1))
+                                .from(table(CHAIN))
+                                .join(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.EMPLOYEE_ID.eq(CHAIN_EMPLOYEE_ID))
+                                .where(CHAIN_DEPTH.lt(MAX_DEPTH))));
+        return dsl.withRecursive(chain)
+                .select(EMPLOYEE_ID,
+                        EMPLOYEE.FIRST_NAME,
+                        EMPLOYEE.MIDDLE_NAME,
+                        EMPLOYEE.LAST_NAME,
+                        COUNTRY,
+                        EMPLOYMENT_DETAILS.JOB_TITLE)
+                .from(chain)
+                .join(EMPLOYEE).on(EMPLOYEE.EMPLOYEE_ID.eq(CHAIN_EMPLOYEE_ID))
+                .leftJoin(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.EMPLOYEE_ID.eq(EMPLOYEE.EMPLOYEE_ID))
+                .orderBy(CHAIN_DEPTH)
+                .fetch(Records.mapping(EmployeeReference::new));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public List<OrgChartEntry> findReports(EmployeeId id) {
+        var reports = REPORTS.fields("employee_id", "manager_id", "depth").as(
+                select(EMPLOYMENT_DETAILS.EMPLOYEE_ID, EMPLOYMENT_DETAILS.MANAGER_ID, inline(1))
+                        .from(EMPLOYMENT_DETAILS)
+                        .where(EMPLOYMENT_DETAILS.MANAGER_ID.eq(id.toLong()))
+                        .unionAll(select(EMPLOYMENT_DETAILS.EMPLOYEE_ID, EMPLOYMENT_DETAILS.MANAGER_ID,
+                                REPORTS_DEPTH.plus(1))
+                                .from(table(REPORTS))
+                                .join(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.MANAGER_ID.eq(REPORTS_EMPLOYEE_ID))
+                                .where(REPORTS_DEPTH.lt(MAX_DEPTH))));
+        return dsl.withRecursive(reports)
+                .select(EMPLOYEE_ID,
+                        EMPLOYEE.FIRST_NAME,
+                        EMPLOYEE.MIDDLE_NAME,
+                        EMPLOYEE.LAST_NAME,
+                        COUNTRY,
+                        EMPLOYMENT_DETAILS.JOB_TITLE,
+                        REPORTS_MANAGER_ID,
+                        REPORTS_DEPTH)
+                .from(reports)
+                .join(EMPLOYEE).on(EMPLOYEE.EMPLOYEE_ID.eq(REPORTS_EMPLOYEE_ID))
+                .join(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.EMPLOYEE_ID.eq(EMPLOYEE.EMPLOYEE_ID))
+                .orderBy(REPORTS_DEPTH, EMPLOYEE.LAST_NAME, EMPLOYEE.FIRST_NAME)
+                .fetch(record -> new OrgChartEntry(
+                        new EmployeeReference(
+                                record.value1(),
+                                record.value2(),
+                                record.value3(),
+                                record.value4(),
+                                record.value5(),
+                                record.value6()),
+                        EmployeeId.of(record.value7()),
+                        record.value8()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public Map<EmployeeId, Integer> countAllReports() {
+        // Pairs every manager with all of their direct and indirect reports, and counts the pairs per manager
+        var reports = REPORTS.fields("employee_id", "manager_id", "depth").as(
+                select(EMPLOYMENT_DETAILS.EMPLOYEE_ID, EMPLOYMENT_DETAILS.MANAGER_ID, inline(1))
+                        .from(EMPLOYMENT_DETAILS)
+                        .where(EMPLOYMENT_DETAILS.MANAGER_ID.isNotNull())
+                        .unionAll(select(EMPLOYMENT_DETAILS.EMPLOYEE_ID, REPORTS_MANAGER_ID, REPORTS_DEPTH.plus(1))
+                                .from(table(REPORTS))
+                                .join(EMPLOYMENT_DETAILS).on(EMPLOYMENT_DETAILS.MANAGER_ID.eq(REPORTS_EMPLOYEE_ID))
+                                .where(REPORTS_DEPTH.lt(MAX_DEPTH))));
+        var managerId = REPORTS_MANAGER_ID.convert(employeeIdConverter);
+        var count = count();
+        return dsl.withRecursive(reports)
+                .select(managerId, count)
+                .from(reports)
+                .groupBy(managerId)
+                .fetchMap(managerId, count);
+    }
+}
@@ -19,6 +19,7 @@ import com.vaadin.flow.router.*;
 import com.vaadin.flow.spring.security.AuthenticationContext;
 import com.vaadin.signals.ValueSignal;
 import jakarta.annotation.security.RolesAllowed;
+import org.jspecify.annotations.Nullable;
 import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.Optional;
@@ -41,6 +42,9 @@ class EmployeeDetailsView extends VerticalLayout implements AfterNavigationObser
     private final ValueSignal<Integer> selectedTabIndexSignal = new ValueSignal<>(-1);
     private final TabSheet tabs;
     private final boolean canUpdate;
+    // The manager and location references that were loaded with the employee, so that the job tab does not have to
+    // look them up again when it shows them
+    private @Nullable EmployeeView loadedView;
 
     EmployeeDetailsView(AuthenticationContext authenticationContext, EmployeeService employeeService,
                         EmployeePictureService employeePictureService, LocationService locationService) {
@@ -90,10 +94,6 @@ class EmployeeDetailsView extends VerticalLayout implements AfterNavigationObser
                 employeeNameHeader.setText(fullName + " " + employee.data().homeAddress().country().flagUnicode());
                 avatar.setName(fullName);
                 avatar.setImageHandler(employeePictureService.findPicture(employee.id()));
-                var details = employeeService.findDetailsById(employee.id()).orElse(null);
-                employmentDetailsSignal.value(details);
-            } else {
-                employmentDetailsSignal.value(null);
             }
         });
         ComponentEffect.effect(this, () -> {
@@ -198,9 +198,9 @@ class EmployeeDetailsView extends VerticalLayout implements AfterNavigationObser
         JobTab() {
             form = new EmploymentDetailsDataForm(
                     locationService::findReferencesBySearchTerm,
-                    locationService::getReferenceById,
+                    EmployeeDetailsView.this::findLocationReference,
                     (pageable, searchTerm) -> employeeService.findReferencesByFilter(pageable, new EmployeeFilter(searchTerm, Set.of(EmploymentStatus.ACTIVE), Set.of())),
-                    employeeService::findReferenceById
+                    EmployeeDetailsView.this::findManagerReference
             );
             add(form);
             setPadding(false);
@@ -272,8 +272,24 @@ class EmployeeDetailsView extends VerticalLayout implements AfterNavigationObser
         afterNavigationEvent.getRouteParameters()
                 .getLong(PARAM_EMPLOYEE_ID)
                 .map(EmployeeId::of)
-                .flatMap(employeeService::findById)
-                .ifPresentOrElse(employeeSignal::value, HumanResourcesNavigation::navigateToEmployeeList);
+                .flatMap(employeeService::loadEmployeeView)
+                .ifPresentOrElse(this::showEmployee, HumanResourcesNavigation::navigateToEmployeeList);
+    }
+
+    private void showEmployee(EmployeeView view) {
+        loadedView = view;
+        employeeSignal.value(view.employee());
+        employmentDetailsSignal.value(view.details());
+    }
+
+    private Optional<LocationReference> findLocationReference(LocationId id) {
+        var loaded = loadedView == null ? null : loadedView.location();
+        return loaded != null && loaded.id().equals(id) ? Optional.of(loaded) : locationService.getReferenceById(id);
+    }
+
+    private Optional<EmployeeReference> findManagerReference(EmployeeId id) {
+        var loaded = loadedView == null ? null : loadedView.manager();
+        return loaded != null && loaded.id().equals(id) ? Optional.of(loaded) : employeeService.findReferenceById(id);
     }
 
     @Override
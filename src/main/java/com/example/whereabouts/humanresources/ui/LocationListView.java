@@ -21,6 +21,7 @@ import com.vaadin.flow.router.*;
 import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.spring.security.AuthenticationContext;
 import jakarta.annotation.security.RolesAllowed;
+import org.jspecify.annotations.Nullable;
 
 import java.util.stream.Stream;
 
@@ -89,9 +90,31 @@ class LocationListView extends MasterDetailLayout implements AfterNavigationObse
             grid.setSelectionMode(Grid.SelectionMode.SINGLE);
             grid.setDataProvider(new AbstractBackEndHierarchicalDataProvider<>() {
 
+                // Small trees are loaded in one go and served from memory until the data provider is refreshed. Larger
+                // trees are not loaded, in which case the tree stays null and the children are fetched level by level.
+                private boolean loaded;
+                private @Nullable LocationTree tree;
+
+                private @Nullable LocationTree tree() {
+                    if (!loaded) {
+                        tree = locationService.loadTree().orElse(null);
+                        loaded = true;
+                    }
+                    return tree;
+                }
+
+                @Override
+                public void refreshAll() {
+                    loaded = false;
+                    tree = null;
+                    super.refreshAll();
+                }
+
                 @Override
                 public int getChildCount(HierarchicalQuery<LocationTreeNode, Object> query) {
-                    return locationService.countChildren(query.getParent());
+                    var loadedTree = tree();
+                    return loadedTree != null ? loadedTree.countChildren(query.getParent())
+                            : locationService.countChildren(query.getParent());
                 }
 
                 @Override
@@ -101,7 +124,10 @@ class LocationListView extends MasterDetailLayout implements AfterNavigationObse
 
                 @Override
                 protected Stream<LocationTreeNode> fetchChildrenFromBackEnd(HierarchicalQuery<LocationTreeNode, Object> query) {
-                    return locationService.findChildren(query.getParent(), VaadinSpringDataHelpers.toSpringPageRequest(query)).stream();
+                    var pageRequest = VaadinSpringDataHelpers.toSpringPageRequest(query);
+                    var loadedTree = tree();
+                    return (loadedTree != null ? loadedTree.findChildren(query.getParent(), pageRequest)
+                            : locationService.findChildren(query.getParent(), pageRequest)).stream();
                 }
             });
             var locationTypeFormatter = LocationTypeFormatter.ofLocale(getLocale());
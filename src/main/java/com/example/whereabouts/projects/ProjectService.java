@@ -1,5 +1,6 @@
 package com.example.whereabouts.projects;
 
+import com.example.whereabouts.common.CountCache;
 import com.example.whereabouts.projects.internal.ProjectQuery;
 import com.example.whereabouts.projects.internal.ProjectRepository;
 import com.example.whereabouts.security.AppRoles;
@@ -10,6 +11,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -20,6 +22,7 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectQuery projectQuery;
+    private final CountCache<String> countCache = new CountCache<>(Duration.ofSeconds(10));
 
     ProjectService(ProjectRepository projectRepository, ProjectQuery projectQuery) {
         this.projectRepository = projectRepository;
@@ -31,6 +34,12 @@ public class ProjectService {
         return projectQuery.findProjectListItemsBySearchTerm(searchTerm, limit, offset, sortOrder);
     }
 
+    @Transactional(readOnly = true)
+    public int countProjectListItems(@Nullable String searchTerm) {
+        var key = searchTerm == null ? "" : searchTerm;
+        return countCache.get(key, () -> projectQuery.countProjectListItemsBySearchTerm(searchTerm));
+    }
+
     @Transactional(readOnly = true)
     public Optional<ProjectListItem> findProjectListItemById(ProjectId id) {
         return projectQuery.findProjectListItemById(id);
@@ -39,6 +48,8 @@ public class ProjectService {
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.PROJECT_CREATE + "')")
     public ProjectId insert(ProjectData data) {
-        return projectRepository.insert(data);
+        var id = projectRepository.insert(data);
+        countCache.invalidateAllAfterCommit();
+        return id;
     }
 }
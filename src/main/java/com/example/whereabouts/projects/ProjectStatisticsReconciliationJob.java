@@ -0,0 +1,33 @@
+package com.example.whereabouts.projects;
+
+import com.example.whereabouts.projects.internal.ProjectStatisticsRepository;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodically rebuilds the project statistics from scratch, in case the incrementally maintained counters have
+ * drifted.
+ */
+@Component
+@NullMarked
+class ProjectStatisticsReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStatisticsReconciliationJob.class);
+
+    private final ProjectStatisticsRepository projectStatisticsRepository;
+
+    ProjectStatisticsReconciliationJob(ProjectStatisticsRepository projectStatisticsRepository) {
+        this.projectStatisticsRepository = projectStatisticsRepository;
+    }
+
+    @Scheduled(cron = "${whereabouts.projects.statistics-reconciliation-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        log.info("Rebuilding project statistics");
+        projectStatisticsRepository.rebuild();
+    }
+}
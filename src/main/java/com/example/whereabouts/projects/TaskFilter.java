@@ -8,32 +8,43 @@ import java.util.Collections;
 import java.util.Set;
 
 @NullMarked
-public record TaskFilter(@Nullable String searchTerm, Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+public record TaskFilter(@Nullable String searchTerm, Set<TaskStatus> statuses, Set<TaskPriority> priorities,
+                         TaskSearchMode searchMode) {
 
-    public TaskFilter(@Nullable String searchTerm, Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+    public TaskFilter(@Nullable String searchTerm, Set<TaskStatus> statuses, Set<TaskPriority> priorities,
+                      TaskSearchMode searchMode) {
         this.searchTerm = searchTerm;
         this.statuses = Set.copyOf(statuses);
         this.priorities = Set.copyOf(priorities);
+        this.searchMode = searchMode;
+    }
+
+    public TaskFilter(@Nullable String searchTerm, Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+        this(searchTerm, statuses, priorities, TaskSearchMode.CONTAINS);
     }
 
     public TaskFilter withSearchTerm(@Nullable String searchTerm) {
-        return new TaskFilter(searchTerm, statuses, priorities);
+        return new TaskFilter(searchTerm, statuses, priorities, searchMode);
+    }
+
+    public TaskFilter withSearchMode(TaskSearchMode searchMode) {
+        return new TaskFilter(searchTerm, statuses, priorities, searchMode);
     }
 
     public TaskFilter withStatus(TaskStatus status) {
-        return new TaskFilter(searchTerm, SetUtil.add(statuses, status), priorities);
+        return new TaskFilter(searchTerm, SetUtil.add(statuses, status), priorities, searchMode);
     }
 
     public TaskFilter withoutStatus(TaskStatus status) {
-        return new TaskFilter(searchTerm, SetUtil.remove(statuses, status), priorities);
+        return new TaskFilter(searchTerm, SetUtil.remove(statuses, status), priorities, searchMode);
     }
 
     public TaskFilter withPriority(TaskPriority priority) {
-        return new TaskFilter(searchTerm, statuses, SetUtil.add(priorities, priority));
+        return new TaskFilter(searchTerm, statuses, SetUtil.add(priorities, priority), searchMode);
     }
 
     public TaskFilter withoutPriority(TaskPriority priority) {
-        return new TaskFilter(searchTerm, statuses, SetUtil.remove(priorities, priority));
+        return new TaskFilter(searchTerm, statuses, SetUtil.remove(priorities, priority), searchMode);
     }
 
     public static TaskFilter empty() {
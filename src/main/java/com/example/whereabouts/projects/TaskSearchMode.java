@@ -0,0 +1,16 @@
+package com.example.whereabouts.projects;
+
+/**
+ * Determines how the search term of a {@link TaskFilter} is matched against task descriptions.
+ */
+public enum TaskSearchMode {
+    /**
+     * The description must contain the search term, ignoring case.
+     */
+    CONTAINS,
+    /**
+     * The description must contain all the words of the search term, or words starting with them. Supports sorting
+     * by {@link TaskSortableProperty#RELEVANCE}.
+     */
+    FULL_TEXT
+}
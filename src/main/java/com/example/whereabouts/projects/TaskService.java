@@ -1,16 +1,25 @@
 package com.example.whereabouts.projects;
 
+import com.example.whereabouts.common.CountCache;
 import com.example.whereabouts.projects.internal.ProjectRepository;
 import com.example.whereabouts.projects.internal.TaskRepository;
 import com.example.whereabouts.security.AppRoles;
 import com.vaadin.flow.data.provider.SortOrder;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 
 @Service
@@ -18,12 +27,21 @@ import java.util.stream.Stream;
 @NullMarked
 public class TaskService {
 
+    static final int IMPORT_CHUNK_SIZE = 10_000;
+    static final int EXPORT_BATCH_SIZE = 1_000;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CountCache<List<Object>> countCache = new CountCache<>(Duration.ofSeconds(10));
 
-    TaskService(TaskRepository taskRepository, ProjectRepository projectRepository) {
+    TaskService(TaskRepository taskRepository, ProjectRepository projectRepository,
+                PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Every import chunk is committed on its own, even if the caller has a transaction of its own
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Transactional(readOnly = true)
@@ -35,22 +53,104 @@ public class TaskService {
     @PreAuthorize("hasRole('" + AppRoles.TASK_CREATE + "')")
     public void insertTask(TaskData data) {
         taskRepository.insert(data);
+        countCache.invalidateAllAfterCommit();
+    }
+
+    /**
+     * Imports a large number of tasks, for example when migrating from another task tracker. The tasks are inserted
+     * in chunks of {@value #IMPORT_CHUNK_SIZE}, each chunk in its own transaction. The tasks must satisfy the same
+     * constraints as tasks inserted with {@link #insertTask(TaskData)}. If a chunk fails, the chunks before it remain
+     * imported. This is also the case when the caller has a transaction, since the chunks do not join it.
+     *
+     * @param tasks            the tasks to import
+     * @param progressListener called with the total number of imported tasks after every committed chunk
+     * @return the total number of imported tasks
+     * @throws RuntimeException the database error, if a task of a chunk could not be inserted, for example because its
+     *                          project or an assignee does not exist
+     */
+    @PreAuthorize("hasRole('" + AppRoles.TASK_CREATE + "')")
+    public long importTasks(Stream<TaskData> tasks, LongConsumer progressListener) {
+        var iterator = tasks.iterator();
+        var chunk = new ArrayList<TaskData>(IMPORT_CHUNK_SIZE);
+        var imported = 0L;
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == IMPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    taskRepository.insertAll(chunk);
+                    countCache.invalidateAllAfterCommit();
+                });
+                imported += chunk.size();
+                progressListener.accept(imported);
+                chunk.clear();
+            }
+        }
+        return imported;
     }
 
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.TASK_UPDATE + "')")
     public Task updateTask(Task task) {
-        return taskRepository.update(task);
+        var updated = taskRepository.update(task);
+        countCache.invalidateAllAfterCommit();
+        return updated;
     }
 
     @Transactional
     @PreAuthorize("hasRole('" + AppRoles.TASK_DELETE + "')")
     public void deleteTask(TaskId id) {
         taskRepository.deleteById(id);
+        countCache.invalidateAllAfterCommit();
     }
 
     @Transactional(readOnly = true)
     public Stream<Task> findTasks(ProjectId project, TaskFilter filter, int limit, int offset, List<SortOrder<TaskSortableProperty>> sortOrders) {
         return taskRepository.findByFilter(project, filter, limit, offset, sortOrders);
     }
+
+    /**
+     * Counts the tasks matching the filter. The count is cached for a short while, so that lazy grids can ask for it
+     * often without hitting the database.
+     */
+    @Transactional(readOnly = true)
+    public int countTasks(ProjectId project, TaskFilter filter) {
+        return countCache.get(List.of(project, filter), () -> taskRepository.countByFilter(project, filter));
+    }
+
+    /**
+     * Exports all tasks matching the filter, for example to a file. The tasks are read through a database cursor in
+     * batches of {@value #EXPORT_BATCH_SIZE}, so memory usage does not grow with the size of the project. All tasks are
+     * read by a single query, and therefore come from the same snapshot of the database.
+     *
+     * @param batchConsumer called with every batch of tasks, in the given sort order
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(ProjectId project, TaskFilter filter, List<SortOrder<TaskSortableProperty>> sortOrders,
+                            Consumer<List<Task>> batchConsumer) {
+        taskRepository.forEachBatchByFilter(project, filter, sortOrders, EXPORT_BATCH_SIZE, batchConsumer);
+    }
+
+    /**
+     * Finds the tasks that come after the given task in the given sort order (keyset pagination).
+     *
+     * @param after the last task of the previous page, or {@code null} to fetch the first page
+     * @throws IllegalArgumentException if {@code after} is given and the sort orders do not
+     *                                  {@linkplain TaskSortableProperty#supportsKeysetPagination() support} keyset
+     *                                  pagination
+     */
+    @Transactional(readOnly = true)
+    public Stream<Task> findTasksAfter(ProjectId project, TaskFilter filter, @Nullable Task after, int limit, List<SortOrder<TaskSortableProperty>> sortOrders) {
+        if (after != null && !supportsKeysetPagination(sortOrders)) {
+            throw new IllegalArgumentException("Tasks sorted by " + sortOrders.stream().map(SortOrder::getSorted).toList()
+                                               + " cannot be paged after a task, use findTasks with an offset instead");
+        }
+        return taskRepository.findByFilterAfter(project, filter, after, limit, sortOrders);
+    }
+
+    /**
+     * Checks whether tasks sorted by all the given sort orders can be paged with {@link #findTasksAfter}.
+     */
+    public static boolean supportsKeysetPagination(List<SortOrder<TaskSortableProperty>> sortOrders) {
+        return sortOrders.stream().allMatch(sortOrder -> sortOrder.getSorted().supportsKeysetPagination());
+    }
 }
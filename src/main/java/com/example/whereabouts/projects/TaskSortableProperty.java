@@ -4,5 +4,18 @@ public enum TaskSortableProperty {
     STATUS,
     DESCRIPTION,
     DUE_DATE,
-    PRIORITY
+    PRIORITY,
+    /**
+     * Sorts full-text search results by how well they match the search term. The relevance of a task is computed by
+     * the query and cannot be compared to a previously fetched task, so tasks sorted by relevance must be paged with
+     * an offset ({@link TaskService#findTasks}) instead of after a task ({@link TaskService#findTasksAfter}).
+     */
+    RELEVANCE;
+
+    /**
+     * Checks whether tasks sorted by this property can be paged after a previously fetched task.
+     */
+    public boolean supportsKeysetPagination() {
+        return this != RELEVANCE;
+    }
 }
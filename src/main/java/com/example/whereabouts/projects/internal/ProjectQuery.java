@@ -16,4 +16,6 @@ public interface ProjectQuery {
     Stream<ProjectListItem> findProjectListItemsBySearchTerm(@Nullable String searchTerm, int limit, int offset, SortOrder<ProjectSortableProperty> sortOrder);
 
     Optional<ProjectListItem> findProjectListItemById(ProjectId id);
+
+    int countProjectListItemsBySearchTerm(@Nullable String searchTerm);
 }
@@ -0,0 +1,18 @@
+package com.example.whereabouts.projects.internal;
+
+import com.example.whereabouts.common.Repository;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Repository for the per-project task and assignee counters shown in the project list. The counters are kept up to
+ * date by the {@link TaskRepository}, so this repository only deals with repairing them.
+ */
+@NullMarked
+public interface ProjectStatisticsRepository extends Repository {
+
+    /**
+     * Rebuilds all counters from the tasks and their assignees, repairing any counters that have drifted, for example
+     * because tasks were written directly with SQL.
+     */
+    void rebuild();
+}
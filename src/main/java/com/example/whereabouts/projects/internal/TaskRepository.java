@@ -4,9 +4,11 @@ import com.example.whereabouts.common.Repository;
 import com.example.whereabouts.projects.*;
 import com.vaadin.flow.data.provider.SortOrder;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @NullMarked
@@ -16,9 +18,36 @@ public interface TaskRepository extends Repository {
 
     TaskId insert(TaskData data);
 
+    /**
+     * Inserts many tasks at once, using bulk inserts for both the tasks and their assignees.
+     *
+     * @return the IDs of the inserted tasks, in the same order as the given data
+     */
+    List<TaskId> insertAll(List<TaskData> data);
+
+    int countByFilter(ProjectId project, TaskFilter filter);
+
     Task update(Task task);
 
     void deleteById(TaskId id);
 
     Stream<Task> findByFilter(ProjectId project, TaskFilter filter, int limit, int offset, List<SortOrder<TaskSortableProperty>> sortOrders);
+
+    /**
+     * Finds tasks using keyset pagination: instead of skipping a number of rows, the query seeks directly to the rows
+     * that come after the given task in the given sort order. This makes every page as cheap to fetch as the first one.
+     *
+     * @param after the last task of the previous page, or {@code null} to fetch the first page
+     */
+    Stream<Task> findByFilterAfter(ProjectId project, TaskFilter filter, @Nullable Task after, int limit, List<SortOrder<TaskSortableProperty>> sortOrders);
+
+    /**
+     * Reads all tasks matching the filter through a database cursor, and passes them to the consumer in batches. Only
+     * one batch is held in memory at a time, so this can be used for projects of any size.
+     *
+     * @param batchSize     the number of tasks to fetch from the cursor at a time
+     * @param batchConsumer called with every batch, while the cursor is still open
+     */
+    void forEachBatchByFilter(ProjectId project, TaskFilter filter, List<SortOrder<TaskSortableProperty>> sortOrders,
+                              int batchSize, Consumer<List<Task>> batchConsumer);
 }
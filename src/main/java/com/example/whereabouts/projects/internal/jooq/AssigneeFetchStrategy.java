@@ -0,0 +1,17 @@
+package com.example.whereabouts.projects.internal.jooq;
+
+/**
+ * Determines how {@link JooqTaskRepository} fetches the assignees of the tasks it returns. Configured with the
+ * {@code whereabouts.tasks.assignee-fetch-strategy} property.
+ */
+enum AssigneeFetchStrategy {
+    /**
+     * Assignees are fetched with a correlated {@code MULTISET} subquery for every task row.
+     */
+    MULTISET,
+    /**
+     * Tasks are fetched first, after which the assignees of all the fetched tasks are fetched with a single
+     * {@code task_id = any(?)} query and combined with the tasks in memory.
+     */
+    BATCH
+}
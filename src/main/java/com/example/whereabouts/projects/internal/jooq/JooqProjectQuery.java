@@ -35,12 +35,8 @@ class JooqProjectQuery implements ProjectQuery {
     @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
     @Override
     public Stream<ProjectListItem> findProjectListItemsBySearchTerm(@Nullable String searchTerm, int limit, int offset, SortOrder<ProjectSortableProperty> sortOrder) {
-        var condition = searchTerm != null && !searchTerm.isBlank()
-                ? PROJECT.NAME.containsIgnoreCase(searchTerm)
-                : DSL.trueCondition();
         return selectProject()
-                .where(condition)
-                .groupBy(PROJECT.PROJECT_ID, PROJECT.NAME)
+                .where(toCondition(searchTerm))
                 .orderBy(toOrderField(sortOrder))
                 .limit(limit)
                 .offset(offset)
@@ -53,20 +49,30 @@ class JooqProjectQuery implements ProjectQuery {
     public Optional<ProjectListItem> findProjectListItemById(ProjectId id) {
         return selectProject()
                 .where(PROJECT.PROJECT_ID.eq(id.toLong()))
-                .groupBy(PROJECT.PROJECT_ID, PROJECT.NAME)
                 .fetchOptional(Records.mapping(ProjectListItem::new));
     }
 
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    @Override
+    public int countProjectListItemsBySearchTerm(@Nullable String searchTerm) {
+        return dsl.fetchCount(PROJECT, toCondition(searchTerm));
+    }
+
+    private Condition toCondition(@Nullable String searchTerm) {
+        return searchTerm != null && !searchTerm.isBlank()
+                ? PROJECT.NAME.containsIgnoreCase(searchTerm)
+                : DSL.trueCondition();
+    }
+
     private SelectOnConditionStep<Record5<ProjectId, String, String, Integer, Integer>> selectProject() {
         return dsl.select(
                         PROJECT.PROJECT_ID.convertFrom(ProjectId::of),
                         PROJECT.NAME,
                         PROJECT.DESCRIPTION,
-                        DSL.countDistinct(TASK),
-                        DSL.countDistinct(TASK_ASSIGNEE)
+                        DSL.coalesce(PROJECT_STATISTICS.TASK_COUNT, 0),
+                        DSL.coalesce(PROJECT_STATISTICS.ASSIGNEE_COUNT, 0)
                 ).from(PROJECT)
-                .leftJoin(TASK).on(TASK.PROJECT_ID.eq(PROJECT.PROJECT_ID))
-                .leftJoin(TASK_ASSIGNEE).on(TASK_ASSIGNEE.TASK_ID.eq(TASK.TASK_ID));
+                .leftJoin(PROJECT_STATISTICS).on(PROJECT_STATISTICS.PROJECT_ID.eq(PROJECT.PROJECT_ID));
     }
 
     private OrderField<?> toOrderField(SortOrder<ProjectSortableProperty> sortOrder) {
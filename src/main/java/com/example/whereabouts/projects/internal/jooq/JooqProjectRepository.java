@@ -1,5 +1,6 @@
 package com.example.whereabouts.projects.internal.jooq;
 
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
 import com.example.whereabouts.projects.Project;
 import com.example.whereabouts.projects.ProjectData;
 import com.example.whereabouts.projects.ProjectId;
@@ -20,9 +21,11 @@ import static com.example.whereabouts.jooq.Tables.PROJECT;
 class JooqProjectRepository implements ProjectRepository {
 
     private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
 
-    JooqProjectRepository(DSLContext dsl) {
+    JooqProjectRepository(DSLContext dsl, IdBlockAllocator idAllocator) {
         this.dsl = dsl;
+        this.idAllocator = idAllocator;
     }
 
     @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
@@ -49,7 +52,7 @@ class JooqProjectRepository implements ProjectRepository {
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public ProjectId insert(ProjectData data) {
-        var id = ProjectId.of(dsl.nextval(PROJECT_ID_SEQ));
+        var id = ProjectId.of(idAllocator.nextId(PROJECT_ID_SEQ));
         dsl.insertInto(PROJECT)
                 .set(PROJECT.PROJECT_ID, id.toLong())
                 .set(PROJECT.VERSION, 1L)
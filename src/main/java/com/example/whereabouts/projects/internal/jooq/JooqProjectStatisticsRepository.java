@@ -0,0 +1,119 @@
+package com.example.whereabouts.projects.internal.jooq;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.projects.ProjectId;
+import com.example.whereabouts.projects.internal.ProjectStatisticsRepository;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.example.whereabouts.jooq.Tables.*;
+
+@Component
+@NullMarked
+class JooqProjectStatisticsRepository implements ProjectStatisticsRepository {
+
+    private final DSLContext dsl;
+
+    JooqProjectStatisticsRepository(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    /**
+     * Adjusts the counters of a project after tasks have been written. Must be called in the same transaction as the
+     * write. An employee assigned to several tasks occurs several times in the assignment collections.
+     */
+    void adjust(ProjectId project, int taskDelta, Collection<EmployeeId> addedAssignments,
+                Collection<EmployeeId> removedAssignments) {
+        if (taskDelta == 0 && addedAssignments.isEmpty() && removedAssignments.isEmpty()) {
+            return;
+        }
+        var projectId = project.toLong();
+        // Sorted by employee, so that concurrent transactions lock the rows in the same order
+        var assignmentDeltas = new TreeMap<Long, Integer>();
+        addedAssignments.forEach(employee -> assignmentDeltas.merge(employee.toLong(), 1, Integer::sum));
+        removedAssignments.forEach(employee -> assignmentDeltas.merge(employee.toLong(), -1, Integer::sum));
+        assignmentDeltas.values().removeIf(delta -> delta == 0);
+
+        // The counters are only ever adjusted by deltas. An absolute count would be taken from the snapshot of this
+        // statement, and overwrite the changes of a concurrent transaction that commits while this one waits for the
+        // row lock.
+        var assigneeDelta = 0;
+        if (!assignmentDeltas.isEmpty()) {
+            var upsert = dsl.insertInto(PROJECT_ASSIGNEE,
+                    PROJECT_ASSIGNEE.PROJECT_ID, PROJECT_ASSIGNEE.EMPLOYEE_ID, PROJECT_ASSIGNEE.TASK_COUNT);
+            for (Map.Entry<Long, Integer> delta : assignmentDeltas.entrySet()) {
+                upsert = upsert.values(projectId, delta.getKey(), delta.getValue());
+            }
+            // xmax is 0 for the rows that were inserted rather than updated, that is for the employees that were not
+            // assigned to any task of the project before
+            var inserted = DSL.field("xmax = 0", Boolean.class);
+            assigneeDelta += (int) upsert.onConflict(PROJECT_ASSIGNEE.PROJECT_ID, PROJECT_ASSIGNEE.EMPLOYEE_ID)
+                    .doUpdate()
+                    .set(PROJECT_ASSIGNEE.TASK_COUNT,
+                            PROJECT_ASSIGNEE.TASK_COUNT.plus(DSL.excluded(PROJECT_ASSIGNEE.TASK_COUNT)))
+                    .returningResult(inserted)
+                    .fetch(Record1::value1)
+                    .stream()
+                    .filter(Boolean.TRUE::equals)
+                    .count();
+            var decremented = assignmentDeltas.entrySet().stream()
+                    .filter(delta -> delta.getValue() < 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!decremented.isEmpty()) {
+                assigneeDelta -= dsl.deleteFrom(PROJECT_ASSIGNEE)
+                        .where(PROJECT_ASSIGNEE.PROJECT_ID.eq(projectId))
+                        .and(PROJECT_ASSIGNEE.EMPLOYEE_ID.in(decremented))
+                        .and(PROJECT_ASSIGNEE.TASK_COUNT.le(0))
+                        .execute();
+            }
+        }
+
+        dsl.insertInto(PROJECT_STATISTICS)
+                .set(PROJECT_STATISTICS.PROJECT_ID, projectId)
+                .set(PROJECT_STATISTICS.TASK_COUNT, taskDelta)
+                .set(PROJECT_STATISTICS.ASSIGNEE_COUNT, assigneeDelta)
+                .onConflict(PROJECT_STATISTICS.PROJECT_ID)
+                .doUpdate()
+                .set(PROJECT_STATISTICS.TASK_COUNT,
+                        PROJECT_STATISTICS.TASK_COUNT.plus(DSL.excluded(PROJECT_STATISTICS.TASK_COUNT)))
+                .set(PROJECT_STATISTICS.ASSIGNEE_COUNT,
+                        PROJECT_STATISTICS.ASSIGNEE_COUNT.plus(DSL.excluded(PROJECT_STATISTICS.ASSIGNEE_COUNT)))
+                .execute();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void rebuild() {
+        // Blocks task writes until the rebuild commits, but not the project list
+        dsl.execute("lock table project_assignee, project_statistics in exclusive mode");
+
+        dsl.deleteFrom(PROJECT_ASSIGNEE).execute();
+        dsl.insertInto(PROJECT_ASSIGNEE,
+                        PROJECT_ASSIGNEE.PROJECT_ID, PROJECT_ASSIGNEE.EMPLOYEE_ID, PROJECT_ASSIGNEE.TASK_COUNT)
+                .select(DSL.select(TASK.PROJECT_ID, TASK_ASSIGNEE.EMPLOYEE_ID, DSL.count())
+                        .from(TASK)
+                        .join(TASK_ASSIGNEE).on(TASK_ASSIGNEE.TASK_ID.eq(TASK.TASK_ID))
+                        .groupBy(TASK.PROJECT_ID, TASK_ASSIGNEE.EMPLOYEE_ID))
+                .execute();
+
+        dsl.deleteFrom(PROJECT_STATISTICS).execute();
+        dsl.insertInto(PROJECT_STATISTICS,
+                        PROJECT_STATISTICS.PROJECT_ID, PROJECT_STATISTICS.TASK_COUNT, PROJECT_STATISTICS.ASSIGNEE_COUNT)
+                .select(DSL.select(PROJECT.PROJECT_ID,
+                                DSL.field(DSL.selectCount().from(TASK).where(TASK.PROJECT_ID.eq(PROJECT.PROJECT_ID))),
+                                DSL.field(DSL.selectCount().from(PROJECT_ASSIGNEE)
+                                        .where(PROJECT_ASSIGNEE.PROJECT_ID.eq(PROJECT.PROJECT_ID))))
+                        .from(PROJECT))
+                .execute();
+    }
+}
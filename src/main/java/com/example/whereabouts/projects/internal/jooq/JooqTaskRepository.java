@@ -1,5 +1,7 @@
 package com.example.whereabouts.projects.internal.jooq;
 
+import com.example.whereabouts.common.SetUtil;
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
 import com.example.whereabouts.humanresources.EmployeeId;
 import com.example.whereabouts.projects.*;
 import com.example.whereabouts.projects.internal.TaskRepository;
@@ -9,16 +11,28 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.example.whereabouts.jooq.Sequences.TASK_ID_SEQ;
@@ -40,17 +54,36 @@ class JooqTaskRepository implements TaskRepository {
     private static final Field<TaskStatus> TASK_STATUS = TASK.TASK_STATUS.convert(taskStatusConverter);
     private static final Field<TaskPriority> TASK_PRIORITY = TASK.TASK_PRIORITY.convert(taskPriorityConverter);
     private static final Field<ZonedDateTime> DUE_DATE_TIME = TASK.DUE_DATE_TIME.convert(zonedDateTimeConverter);
+    // Tasks without a due date are sorted as if they were due at the end of time. This gives the same order as
+    // PostgreSQL's default null ordering, but makes the sort key non-null so that it can be used for keyset pagination.
+    // The task_project_id_due_date_time_idx index uses the exact same expression.
+    private static final OffsetDateTime NO_DUE_DATE_TIME = OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+    private static final Field<OffsetDateTime> DUE_DATE_TIME_SORT_KEY = DSL.coalesce(TASK.DUE_DATE_TIME, DSL.inline(NO_DUE_DATE_TIME));
+    // Must match the expression of the task_description_tsv_idx index
+    private static final Field<Object> DESCRIPTION_DOCUMENT = DSL.field("to_tsvector('simple'::regconfig, {0})", Object.class, TASK.DESCRIPTION);
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int BULK_SIZE = 1000;
 
     private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
+    private final JooqProjectStatisticsRepository statistics;
+    private final AssigneeFetchStrategy assigneeFetchStrategy;
 
-    JooqTaskRepository(@NonNull DSLContext dsl) {
+    JooqTaskRepository(@NonNull DSLContext dsl,
+                       @NonNull IdBlockAllocator idAllocator,
+                       @NonNull JooqProjectStatisticsRepository statistics,
+                       @Value("${whereabouts.tasks.assignee-fetch-strategy:MULTISET}") @NonNull AssigneeFetchStrategy assigneeFetchStrategy) {
         this.dsl = dsl;
+        this.idAllocator = idAllocator;
+        this.statistics = statistics;
+        this.assigneeFetchStrategy = assigneeFetchStrategy;
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public @NonNull TaskId insert(@NonNull TaskData data) {
-        var id = TaskId.of(dsl.nextval(TASK_ID_SEQ));
+        var id = TaskId.of(idAllocator.nextId(TASK_ID_SEQ));
         dsl.insertInto(TASK)
                 .set(TASK_ID, id)
                 .set(TASK.VERSION, 1L)
@@ -64,14 +97,73 @@ class JooqTaskRepository implements TaskRepository {
                 .set(TASK_PRIORITY, data.priority())
                 .execute();
         insertAssignees(id, data.assignees());
+        statistics.adjust(data.project(), 1, data.assignees(), List.of());
         return id;
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public @NonNull List<TaskId> insertAll(@NonNull List<TaskData> data) {
+        if (data.isEmpty()) {
+            return List.of();
+        }
+        var ids = idAllocator.nextIds(TASK_ID_SEQ, data.size()).stream().map(TaskId::of).toList();
+        var taskRows = new ArrayList<Object[]>(data.size());
+        var assigneeRows = new ArrayList<Object[]>();
+        for (var i = 0; i < data.size(); ++i) {
+            var id = ids.get(i);
+            var task = data.get(i);
+            taskRows.add(new Object[]{
+                    taskIdConverter.to(id),
+                    1L,
+                    projectIdConverter.to(task.project()),
+                    task.description(),
+                    task.dueDate(),
+                    task.dueTime(),
+                    zoneIdConverter.to(task.timeZone()),
+                    zonedDateTimeConverter.to(task.dueDateTime()),
+                    taskStatusConverter.to(task.status()),
+                    taskPriorityConverter.to(task.priority())
+            });
+            for (var assignee : task.assignees()) {
+                assigneeRows.add(new Object[]{taskIdConverter.to(id), employeeIdConverter.to(assignee)});
+            }
+        }
+        load(TASK, taskRows, TASK.TASK_ID, TASK.VERSION, TASK.PROJECT_ID, TASK.DESCRIPTION, TASK.DUE_DATE,
+                TASK.DUE_TIME, TASK.TIME_ZONE, TASK.DUE_DATE_TIME, TASK.TASK_STATUS, TASK.TASK_PRIORITY);
+        load(TASK_ASSIGNEE, assigneeRows, TASK_ASSIGNEE.TASK_ID, TASK_ASSIGNEE.EMPLOYEE_ID);
+        data.stream()
+                .collect(Collectors.groupingBy(TaskData::project))
+                .forEach((project, tasks) -> statistics.adjust(project, tasks.size(),
+                        tasks.stream().flatMap(task -> task.assignees().stream()).toList(), List.of()));
+        return ids;
+    }
+
+    private void load(@NonNull Table<?> table, @NonNull List<Object[]> rows, @NonNull Field<?>... fields) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            var loader = dsl.loadInto(table)
+                    .bulkAfter(BULK_SIZE)
+                    .loadArrays(rows.iterator())
+                    .fields(fields)
+                    .execute();
+            if (!loader.errors().isEmpty()) {
+                throw loader.errors().getFirst().exception();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public @NonNull Task update(@NonNull Task task) {
         var newVersion = task.version() + 1;
-        var rowsUpdated = dsl.update(TASK)
+        // Joining the task with itself gives access to the project it belonged to before the update
+        var old = TASK.as("old");
+        var oldProject = dsl.update(TASK)
                 .set(TASK.VERSION, newVersion)
                 .set(PROJECT_ID, task.data().project())
                 .set(TASK.DESCRIPTION, task.data().description())
@@ -81,23 +173,44 @@ class JooqTaskRepository implements TaskRepository {
                 .set(DUE_DATE_TIME, task.data().dueDateTime())
                 .set(TASK_STATUS, task.data().status())
                 .set(TASK_PRIORITY, task.data().priority())
+                .from(old)
                 .where(TASK_ID.eq(task.id()))
                 .and(TASK.VERSION.eq(task.version()))
-                .execute();
+                .and(old.TASK_ID.eq(TASK.TASK_ID))
+                .returningResult(old.PROJECT_ID.convert(projectIdConverter))
+                .fetchOptional(Record1::value1)
+                .orElseThrow(() -> new OptimisticLockingFailureException("Task was modified by another user"));
 
-        if (rowsUpdated == 0) {
-            throw new OptimisticLockingFailureException("Task was modified by another user");
+        var newProject = task.data().project();
+        var oldAssignees = updateAssignees(task.id(), task.data().assignees());
+        if (oldProject.equals(newProject)) {
+            statistics.adjust(newProject, 0, SetUtil.difference(task.data().assignees(), oldAssignees),
+                    SetUtil.difference(oldAssignees, task.data().assignees()));
+        } else {
+            statistics.adjust(oldProject, -1, List.of(), oldAssignees);
+            statistics.adjust(newProject, 1, task.data().assignees(), List.of());
         }
 
-        dsl.deleteFrom(TASK_ASSIGNEE)
-                .where(ASSIGNEE_TASK_ID.eq(task.id()))
-                .execute();
-
-        insertAssignees(task.id(), task.data().assignees());
-
         return new Task(task.id(), newVersion, task.data());
     }
 
+    private @NonNull Set<EmployeeId> updateAssignees(@NonNull TaskId taskId, @NonNull Set<EmployeeId> assignees) {
+        // Only touch the rows that actually changed, most updates don't change the assignees at all
+        var current = dsl.select(ASSIGNEE_EMPLOYEE_ID)
+                .from(TASK_ASSIGNEE)
+                .where(ASSIGNEE_TASK_ID.eq(taskId))
+                .fetchSet(ASSIGNEE_EMPLOYEE_ID);
+        var removed = current.stream().filter(assignee -> !assignees.contains(assignee)).toList();
+        if (!removed.isEmpty()) {
+            dsl.deleteFrom(TASK_ASSIGNEE)
+                    .where(ASSIGNEE_TASK_ID.eq(taskId))
+                    .and(ASSIGNEE_EMPLOYEE_ID.in(removed))
+                    .execute();
+        }
+        insertAssignees(taskId, assignees.stream().filter(assignee -> !current.contains(assignee)).toList());
+        return current;
+    }
+
     private void insertAssignees(@NonNull TaskId taskId, @NonNull Collection<EmployeeId> assignees) {
         if (assignees.isEmpty()) {
             return;
@@ -117,40 +230,124 @@ class JooqTaskRepository implements TaskRepository {
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public void deleteById(@NonNull TaskId id) {
-        dsl.deleteFrom(TASK_ASSIGNEE)
+        var assignees = dsl.deleteFrom(TASK_ASSIGNEE)
                 .where(ASSIGNEE_TASK_ID.eq(id))
-                .execute();
+                .returningResult(ASSIGNEE_EMPLOYEE_ID)
+                .fetch(Record1::value1);
         dsl.deleteFrom(TASK)
                 .where(TASK_ID.eq(id))
-                .execute();
+                .returningResult(PROJECT_ID)
+                .fetchOptional(Record1::value1)
+                .ifPresent(project -> statistics.adjust(project, -1, List.of(), assignees));
     }
 
     @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
     @Override
     public @NonNull Optional<Task> findById(@NonNull TaskId id) {
-        return dsl
-                .select(TASK_ID,
-                        TASK.VERSION,
-                        PROJECT_ID,
-                        TASK.DESCRIPTION,
-                        TASK.DUE_DATE,
-                        TASK.DUE_TIME,
-                        TIME_ZONE,
-                        TASK_STATUS,
-                        TASK_PRIORITY,
-                        ASSIGNEES
-                )
-                .from(TASK)
-                .where(TASK_ID.eq(id))
-                .fetchOptional(this::toTask);
+        return fetchTasks(selectTask().where(TASK_ID.eq(id))).stream().findFirst();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    @Override
+    public int countByFilter(@NonNull ProjectId project, @NonNull TaskFilter filter) {
+        return dsl.fetchCount(TASK, toCondition(project, filter));
     }
 
     @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
     @Override
     public @NonNull Stream<Task> findByFilter(@NonNull ProjectId project, @NonNull TaskFilter filter, int limit, int offset, @NonNull List<SortOrder<TaskSortableProperty>> sortOrders) {
-        Condition condition = DSL.trueCondition();
+        return fetchTasks(selectTask()
+                .where(toCondition(project, filter))
+                .orderBy(toOrderFields(filter, sortOrders))
+                .limit(limit)
+                .offset(offset)
+        ).stream();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    @Override
+    public @NonNull Stream<Task> findByFilterAfter(@NonNull ProjectId project, @NonNull TaskFilter filter, @Nullable Task after, int limit, @NonNull List<SortOrder<TaskSortableProperty>> sortOrders) {
+        var query = selectTask()
+                .where(toCondition(project, filter))
+                .orderBy(toOrderFields(filter, sortOrders));
+        return fetchTasks(after == null
+                ? query.limit(limit)
+                : query.seek(toSeekValues(after, sortOrders)).limit(limit)
+        ).stream();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    @Override
+    public void forEachBatchByFilter(@NonNull ProjectId project, @NonNull TaskFilter filter,
+                                     @NonNull List<SortOrder<TaskSortableProperty>> sortOrders, int batchSize,
+                                     @NonNull Consumer<List<Task>> batchConsumer) {
+        // Without a fetch size, the PostgreSQL driver reads the whole result into memory before returning the first row
+        try (var cursor = selectTask()
+                .where(toCondition(project, filter))
+                .orderBy(toOrderFields(filter, sortOrders))
+                .fetchSize(batchSize)
+                .fetchLazy()) {
+            while (cursor.hasNext()) {
+                batchConsumer.accept(toTasks(cursor.fetchNext(batchSize)));
+            }
+        }
+    }
+
+    private @NonNull SelectJoinStep<Record> selectTask() {
+        var fields = new ArrayList<SelectField<?>>(List.of(
+                TASK_ID,
+                TASK.VERSION,
+                PROJECT_ID,
+                TASK.DESCRIPTION,
+                TASK.DUE_DATE,
+                TASK.DUE_TIME,
+                TIME_ZONE,
+                TASK_STATUS,
+                TASK_PRIORITY
+        ));
+        if (assigneeFetchStrategy == AssigneeFetchStrategy.MULTISET) {
+            fields.add(ASSIGNEES);
+        }
+        return dsl.select(fields).from(TASK);
+    }
+
+    private @NonNull List<Task> fetchTasks(@NonNull ResultQuery<Record> query) {
+        return toTasks(query.fetch());
+    }
+
+    private @NonNull List<Task> toTasks(@NonNull Result<Record> records) {
+        return switch (assigneeFetchStrategy) {
+            case MULTISET -> records.map(record -> toTask(record, record.getValue(ASSIGNEES).intoSet(ASSIGNEE_EMPLOYEE_ID)));
+            case BATCH -> {
+                var assignees = findAssignees(records.getValues(TASK_ID));
+                yield records.map(record -> toTask(record, assignees.getOrDefault(record.getValue(TASK_ID), Set.of())));
+            }
+        };
+    }
+
+    private @NonNull Map<TaskId, Set<EmployeeId>> findAssignees(@NonNull Collection<TaskId> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        var ids = taskIds.stream().map(TaskId::toLong).toArray(Long[]::new);
+        return dsl.select(ASSIGNEE_TASK_ID, ASSIGNEE_EMPLOYEE_ID)
+                .from(TASK_ASSIGNEE)
+                .where(TASK_ASSIGNEE.TASK_ID.eq(DSL.any(ids)))
+                .collect(Collectors.groupingBy(Record2::value1, Collectors.mapping(Record2::value2, Collectors.toSet())));
+    }
+
+    private @NonNull Condition toCondition(@NonNull ProjectId project, @NonNull TaskFilter filter) {
+        Condition condition = PROJECT_ID.eq(project);
         if (filter.searchTerm() != null && !filter.searchTerm().isBlank()) {
-            condition = condition.and(TASK.DESCRIPTION.containsIgnoreCase(filter.searchTerm()));
+            switch (filter.searchMode()) {
+                case CONTAINS -> condition = condition.and(TASK.DESCRIPTION.containsIgnoreCase(filter.searchTerm()));
+                case FULL_TEXT -> {
+                    var query = toFullTextQuery(filter.searchTerm());
+                    if (query != null) {
+                        condition = condition.and("{0} @@ {1}", DESCRIPTION_DOCUMENT, query);
+                    }
+                }
+            }
         }
         if (!filter.statuses().isEmpty()) {
             condition = condition.and(TASK_STATUS.in(filter.statuses()));
@@ -158,36 +355,17 @@ class JooqTaskRepository implements TaskRepository {
         if (!filter.priorities().isEmpty()) {
             condition = condition.and(TASK_PRIORITY.in(filter.priorities()));
         }
-        return dsl
-                .select(TASK_ID,
-                        TASK.VERSION,
-                        PROJECT_ID,
-                        TASK.DESCRIPTION,
-                        TASK.DUE_DATE,
-                        TASK.DUE_TIME,
-                        TIME_ZONE,
-                        TASK_STATUS,
-                        TASK_PRIORITY,
-                        ASSIGNEES
-                )
-                .from(TASK)
-                .where(PROJECT_ID.eq(project))
-                .and(condition)
-                .orderBy(sortOrders.stream().map(this::toOrderField).toList())
-                .limit(limit)
-                .offset(offset)
-                .fetch(this::toTask)
-                .stream();
+        return condition;
     }
 
-    private @NonNull Task toTask(@NonNull Record record) {
+    private @NonNull Task toTask(@NonNull Record record, @NonNull Set<EmployeeId> assignees) {
         return new Task(
                 record.getValue(TASK_ID),
                 record.getValue(TASK.VERSION),
-                toTaskData(record));
+                toTaskData(record, assignees));
     }
 
-    private @NonNull TaskData toTaskData(@NonNull Record record) {
+    private @NonNull TaskData toTaskData(@NonNull Record record, @NonNull Set<EmployeeId> assignees) {
         return new TaskData(
                 record.getValue(PROJECT_ID),
                 record.getValue(TASK.DESCRIPTION),
@@ -196,19 +374,80 @@ class JooqTaskRepository implements TaskRepository {
                 record.getValue(TIME_ZONE),
                 record.getValue(TASK_STATUS),
                 record.getValue(TASK_PRIORITY),
-                record.getValue(ASSIGNEES).intoSet(ASSIGNEE_EMPLOYEE_ID)
+                assignees
         );
     }
 
+    /**
+     * Builds a full-text query that matches descriptions containing all the words of the search term, or words
+     * starting with them (so that the query works while the user is still typing).
+     */
+    private @Nullable Field<Object> toFullTextQuery(@NonNull String searchTerm) {
+        var words = NON_WORD_CHARACTERS.splitAsStream(searchTerm)
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .toList();
+        if (words.isEmpty()) {
+            return null;
+        }
+        return DSL.field("to_tsquery('simple'::regconfig, {0})", Object.class, DSL.val(String.join(" & ", words)));
+    }
+
+    private @NonNull List<OrderField<?>> toOrderFields(@NonNull TaskFilter filter, @NonNull List<SortOrder<TaskSortableProperty>> sortOrders) {
+        var orderFields = new ArrayList<OrderField<?>>(sortOrders.size() + 1);
+        for (var sortOrder : sortOrders) {
+            if (sortOrder.getSorted() == TaskSortableProperty.RELEVANCE) {
+                toRelevanceOrderField(filter, sortOrder).ifPresent(orderFields::add);
+            } else {
+                orderFields.add(toOrderField(sortOrder));
+            }
+        }
+        // Always sort by ID last to get a stable order, which keyset pagination relies on. Sorting it in the same
+        // direction as the last sort order lets the composite task_project_id_*_idx indexes be scanned backwards.
+        var descending = !sortOrders.isEmpty() && sortOrders.getLast().getDirection() == SortDirection.DESCENDING;
+        orderFields.add(descending ? TASK.TASK_ID.desc() : TASK.TASK_ID.asc());
+        return orderFields;
+    }
+
     private @NonNull OrderField<?> toOrderField(@NonNull SortOrder<TaskSortableProperty> sortOrder) {
         return switch (sortOrder.getSorted()) {
             case STATUS -> sortOrder.getDirection() == SortDirection.ASCENDING ? TASK_STATUS.asc() : TASK_STATUS.desc();
             case DESCRIPTION ->
                     sortOrder.getDirection() == SortDirection.ASCENDING ? TASK.DESCRIPTION.asc() : TASK.DESCRIPTION.desc();
             case DUE_DATE ->
-                    sortOrder.getDirection() == SortDirection.ASCENDING ? DUE_DATE_TIME.asc() : DUE_DATE_TIME.desc();
+                    sortOrder.getDirection() == SortDirection.ASCENDING ? DUE_DATE_TIME_SORT_KEY.asc() : DUE_DATE_TIME_SORT_KEY.desc();
             case PRIORITY ->
                     sortOrder.getDirection() == SortDirection.ASCENDING ? TASK_PRIORITY.asc() : TASK_PRIORITY.desc();
+            case RELEVANCE -> throw new IllegalArgumentException("Relevance must be handled separately");
         };
     }
+
+    private @NonNull Optional<OrderField<?>> toRelevanceOrderField(@NonNull TaskFilter filter, @NonNull SortOrder<TaskSortableProperty> sortOrder) {
+        // Relevance only makes sense for full-text searches. In all other cases, all tasks are equally relevant.
+        if (filter.searchMode() != TaskSearchMode.FULL_TEXT || filter.searchTerm() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(toFullTextQuery(filter.searchTerm())).<OrderField<?>>map(query -> {
+            var rank = DSL.field("ts_rank({0}, {1})", Float.class, DESCRIPTION_DOCUMENT, query);
+            return sortOrder.getDirection() == SortDirection.ASCENDING ? rank.asc() : rank.desc();
+        });
+    }
+
+    private @NonNull Object[] toSeekValues(@NonNull Task after, @NonNull List<SortOrder<TaskSortableProperty>> sortOrders) {
+        var values = new ArrayList<>(sortOrders.size() + 1);
+        for (var sortOrder : sortOrders) {
+            values.add(switch (sortOrder.getSorted()) {
+                case STATUS -> after.data().status();
+                case DESCRIPTION -> after.data().description();
+                case DUE_DATE -> Optional.ofNullable(after.data().dueDateTime())
+                        .map(ZonedDateTime::toOffsetDateTime)
+                        .orElse(NO_DUE_DATE_TIME);
+                case PRIORITY -> after.data().priority();
+                case RELEVANCE ->
+                        throw new IllegalArgumentException("Keyset pagination is not supported when sorting by relevance");
+            });
+        }
+        values.add(after.id().toLong());
+        return values.toArray();
+    }
 }
@@ -15,6 +15,7 @@ import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
 import com.vaadin.flow.component.grid.ColumnTextAlign;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.contextmenu.GridContextMenu;
+import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.html.H4;
@@ -24,6 +25,7 @@ import com.vaadin.flow.component.menubar.MenuBar;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.function.SerializableRunnable;
@@ -45,6 +47,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Route(value = "projects/:projectId", layout = ProjectListView.class)
 @RolesAllowed(AppRoles.PROJECT_READ)
@@ -163,6 +166,7 @@ class ProjectDetailsView extends VerticalLayout implements AfterNavigationObserv
         private final Grid<Task> grid;
         private final Grid.Column<Task> cardColumn;
         private final ValueSignal<TaskFilter> filterSignal = new ValueSignal<>(TaskFilter.empty());
+        private final KeysetPageCache<Task> pageCache = new KeysetPageCache<>();
 
         TaskList(Project project, ZoneId timeZone) {
             this.project = project;
@@ -177,9 +181,8 @@ class ProjectDetailsView extends VerticalLayout implements AfterNavigationObserv
 
             grid = new Grid<>();
             grid.setSelectionMode(Grid.SelectionMode.NONE);
-            grid.setItems(query -> taskService.findTasks(project.id(), filterSignal.peek(),
-                    query.getLimit(), query.getOffset(),
-                    SortOrderUtil.toSortOrderList(TaskSortableProperty::valueOf, query.getSortOrders())));
+            grid.setItems(query -> fetchTasks(query), query -> taskService.countTasks(project.id(), filterSignal.peek()));
+            grid.getDataProvider().addDataProviderListener(event -> pageCache.clear());
             grid.addThemeName("no-border");
             grid.addColumn(new ComponentRenderer<>(this::createStatusBadge)).setHeader("Status").setWidth("150px")
                     .setFlexGrow(0).setSortProperty(TaskSortableProperty.STATUS.name());
@@ -198,6 +201,11 @@ class ProjectDetailsView extends VerticalLayout implements AfterNavigationObserv
             grid.setSizeFull();
             createContextMenu(grid.addContextMenu());
 
+            // Export the tasks in the same order as they are shown in the grid
+            var exportLink = new Anchor(new TaskCsvDownloadHandler(taskService, employeeService, project.id(),
+                    filterSignal::peek, () -> SortOrderUtil.toSortOrderList(TaskSortableProperty::valueOf,
+                    grid.getDataCommunicator().getBackEndSorting()), timeZone), "Export CSV");
+
             // Add listeners and effects
             searchField.addValueChangeListener(event ->
                     filterSignal.update(old -> old.withSearchTerm(event.getValue())));
@@ -212,7 +220,7 @@ class ProjectDetailsView extends VerticalLayout implements AfterNavigationObserv
             setSizeFull();
             setPadding(false);
             setSpacing(false);
-            var toolbar = new SectionToolbar(searchField, filterMenu);
+            var toolbar = new SectionToolbar(searchField, SectionToolbar.group(filterMenu, exportLink));
             toolbar.getStyle().setBorderBottom("1px solid var(--vaadin-border-color-secondary)");
             add(toolbar, grid);
 
@@ -220,6 +228,23 @@ class ProjectDetailsView extends VerticalLayout implements AfterNavigationObserv
             resizeObserver.addListener(this::adjustGridOnResize);
         }
 
+        private Stream<Task> fetchTasks(Query<Task, Void> query) {
+            var filter = filterSignal.peek();
+            var sortOrders = SortOrderUtil.toSortOrderList(TaskSortableProperty::valueOf, query.getSortOrders());
+            var queryKey = List.of(filter, sortOrders.stream().map(o -> o.getSorted() + " " + o.getDirection()).toList());
+            // Use keyset pagination whenever we know the last task of the previous page, which is the case when the
+            // user scrolls through the grid. If the user jumps to an arbitrary position, or the sort order does not
+            // support keyset pagination, we fall back to the offset.
+            var after = pageCache.findItemBefore(queryKey, query.getOffset());
+            var tasks = TaskService.supportsKeysetPagination(sortOrders) && (query.getOffset() == 0 || after.isPresent())
+                    ? taskService.findTasksAfter(project.id(), filter, after.orElse(null), query.getLimit(), sortOrders).toList()
+                    : taskService.findTasks(project.id(), filter, query.getLimit(), query.getOffset(), sortOrders).toList();
+            if (!tasks.isEmpty()) {
+                pageCache.put(query.getOffset() + tasks.size(), tasks.getLast());
+            }
+            return tasks.stream();
+        }
+
         private void adjustGridOnResize(ResizeObserver.ResizeEvent resizeEvent) {
             boolean showCardView = resizeEvent.width() < 800;
             cardColumn.setVisible(showCardView);
@@ -124,8 +124,9 @@ class ProjectListView extends MasterDetailLayout implements AfterNavigationObser
             grid = new Grid<>();
             grid.setSelectionMode(Grid.SelectionMode.SINGLE);
             grid.setItems((CallbackDataProvider.FetchCallback<ProjectListItem, Void>) query ->
-                    projectService.findProjectListItems(searchField.getValue(), query.getLimit(), query.getOffset(),
-                            sortField.getValue().getSortOrder()));
+                            projectService.findProjectListItems(searchField.getValue(), query.getLimit(), query.getOffset(),
+                                    sortField.getValue().getSortOrder()),
+                    query -> projectService.countProjectListItems(searchField.getValue()));
             grid.addColumn(new ComponentRenderer<>(this::createProjectCard));
             grid.setSizeFull();
             grid.addThemeName("no-border");
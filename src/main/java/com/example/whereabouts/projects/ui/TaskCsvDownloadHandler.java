@@ -0,0 +1,132 @@
+package com.example.whereabouts.projects.ui;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeReference;
+import com.example.whereabouts.humanresources.EmployeeService;
+import com.example.whereabouts.humanresources.PersonNameFormatter;
+import com.example.whereabouts.projects.*;
+import com.vaadin.flow.data.provider.SortOrder;
+import com.vaadin.flow.server.streams.DownloadEvent;
+import com.vaadin.flow.server.streams.DownloadHandler;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Exports the tasks of a project as CSV. The tasks are written to the response batch by batch while they are read from
+ * the database, and the assignees of each batch are resolved with a single lookup, so the export never holds more than
+ * one batch in memory.
+ */
+@NullMarked
+final class TaskCsvDownloadHandler implements DownloadHandler {
+
+    private static final List<String> HEADER = List.of("ID", "Description", "Status", "Priority", "Due", "Assignees");
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TaskService taskService;
+    private final EmployeeService employeeService;
+    private final ProjectId project;
+    private final Supplier<TaskFilter> filter;
+    private final Supplier<List<SortOrder<TaskSortableProperty>>> sortOrders;
+    private final ZoneId timeZone;
+
+    TaskCsvDownloadHandler(TaskService taskService, EmployeeService employeeService, ProjectId project,
+                           Supplier<TaskFilter> filter, Supplier<List<SortOrder<TaskSortableProperty>>> sortOrders,
+                           ZoneId timeZone) {
+        this.taskService = taskService;
+        this.employeeService = employeeService;
+        this.project = project;
+        this.filter = filter;
+        this.sortOrders = sortOrders;
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public void handleDownloadRequest(DownloadEvent event) throws IOException {
+        var fileName = "project-" + project.toLong() + "-tasks.csv";
+        event.setFileName(fileName);
+        event.setContentType("text/csv;charset=UTF-8");
+        var nameFormatter = PersonNameFormatter.firstLast();
+        try (var writer = new BufferedWriter(new OutputStreamWriter(event.getOutputStream(), StandardCharsets.UTF_8))) {
+            writeRow(writer, HEADER);
+            try {
+                taskService.exportTasks(project, filter.get(), sortOrders.get(), tasks -> {
+                    var assigneeIds = new HashSet<EmployeeId>();
+                    tasks.forEach(task -> assigneeIds.addAll(task.data().assignees()));
+                    var assignees = employeeService.findReferencesByIds(assigneeIds).stream()
+                            .collect(Collectors.toMap(EmployeeReference::id, Function.identity()));
+                    try {
+                        for (var task : tasks) {
+                            writeRow(writer, toRow(task, assignees, nameFormatter));
+                        }
+                        // Send every batch to the client right away, instead of buffering the whole file
+                        writer.flush();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    private List<String> toRow(Task task, Map<EmployeeId, EmployeeReference> assignees,
+                               PersonNameFormatter nameFormatter) {
+        var dueDateTime = task.data().dueDateTimeInZone(timeZone);
+        return List.of(
+                String.valueOf(task.id().toLong()),
+                task.data().description(),
+                task.data().status().name(),
+                task.data().priority().name(),
+                dueDateTime == null ? "" : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dueDateTime),
+                task.data().assignees().stream()
+                        .map(assignees::get)
+                        .map(assignee -> assignee == null ? "" : nameFormatter.toFullName(assignee))
+                        .sorted()
+                        .collect(Collectors.joining(", "))
+        );
+    }
+
+    static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (var i = 0; i < values.size(); ++i) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, values.get(i));
+        }
+        // RFC 4180 uses CRLF line endings
+        writer.write("\r\n");
+    }
+
+    static void writeValue(Writer writer, String value) throws IOException {
+        if (value.isEmpty()) {
+            return;
+        }
+        // Spreadsheet applications evaluate cells that start with these characters as formulas (CSV injection), so
+        // such values are prefixed with an apostrophe to keep them as text
+        if (FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
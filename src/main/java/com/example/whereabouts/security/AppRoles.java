@@ -26,10 +26,13 @@ public final class AppRoles {
     public static final Set<String> PROJECT_WRITE = Set.of(PROJECT_READ, PROJECT_CREATE, TASK_CREATE, TASK_UPDATE, TASK_DELETE);
     public static final Set<String> TASK_WRITE = Set.of(PROJECT_READ, TASK_CREATE, TASK_UPDATE, TASK_DELETE);
 
+    public static final String ACTUATOR_READ = "ACTUATOR:READ";
+
     public static final Set<String> READ_ONlY = Set.of(LOCATION_READ, EMPLOYEE_READ, PROJECT_READ);
     public static final Set<String> ALL = Set.of(
             LOCATION_READ, LOCATION_CREATE, LOCATION_UPDATE,
             EMPLOYEE_READ, EMPLOYEE_CREATE, EMPLOYEE_UPDATE,
-            PROJECT_READ, PROJECT_CREATE, TASK_CREATE, TASK_UPDATE, TASK_DELETE
+            PROJECT_READ, PROJECT_CREATE, TASK_CREATE, TASK_UPDATE, TASK_DELETE,
+            ACTUATOR_READ
     );
 }
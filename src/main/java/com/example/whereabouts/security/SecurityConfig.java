@@ -23,7 +23,10 @@ class SecurityConfig {
                 .with(VaadinSecurityConfigurer.vaadin(), configurer ->
                         configurer.loginView(LoginView.class)
                 )
-                .authorizeHttpRequests(requests -> requests.requestMatchers("/*.css", "/icons/**").permitAll())
+                .authorizeHttpRequests(requests -> requests
+                        .requestMatchers("/*.css", "/icons/**").permitAll()
+                        // The metrics reveal internals such as cache sizes and query counts
+                        .requestMatchers("/actuator/metrics/**").hasRole(AppRoles.ACTUATOR_READ))
                 .build();
     }
 }
@@ -1,5 +1,6 @@
 package com.example.whereabouts.security.internal.jooq;
 
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
 import com.example.whereabouts.jooq.tables.records.AppUserRoleRecord;
 import com.example.whereabouts.security.User;
 import com.example.whereabouts.security.UserId;
@@ -24,15 +25,17 @@ import static com.example.whereabouts.jooq.Tables.APP_USER_ROLE;
 class JooqUserRepository implements UserRepository {
 
     private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
 
-    JooqUserRepository(DSLContext dsl) {
+    JooqUserRepository(DSLContext dsl, IdBlockAllocator idAllocator) {
         this.dsl = dsl;
+        this.idAllocator = idAllocator;
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
     public UserId insert(String username, @Nullable String password, String displayName, Set<String> roles) {
-        var id = UserId.of(dsl.nextval(APP_USER_ID_SEQ));
+        var id = UserId.of(idAllocator.nextId(APP_USER_ID_SEQ));
         dsl.insertInto(APP_USER)
                 .set(APP_USER.USER_ID, id.toLong())
                 .set(APP_USER.VERSION, 1L)
@@ -0,0 +1,12 @@
+------------------------------
+-- Task description search
+------------------------------
+
+create extension if not exists pg_trgm;
+
+-- Makes substring searches (description ilike '%term%') index scans instead of sequential scans
+create index task_description_trgm_idx on task using gin (description gin_trgm_ops);
+
+-- Full-text search over task descriptions. The 'simple' configuration is used because the descriptions can be written in
+-- any language. Queries must use the exact same expression for the index to be used.
+create index task_description_tsv_idx on task using gin (to_tsvector('simple', description));
@@ -0,0 +1,10 @@
+------------------------------
+-- Employee name search
+------------------------------
+
+-- The full name is used for searching, so that a search term like "John Smith" can be matched against a single column.
+alter table employee
+    add column full_name text generated always as (first_name || ' ' || coalesce(middle_name || ' ', '') || last_name) stored;
+
+-- Makes case-insensitive substring searches on the full name (full_name ilike '%term%') index scans
+create index employee_full_name_trgm_idx on employee using gin (full_name gin_trgm_ops);
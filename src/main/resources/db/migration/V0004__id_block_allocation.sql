@@ -0,0 +1,6 @@
+-- Every nextval reserves a block of IDs that the application hands out from memory (see IdBlockAllocator)
+alter sequence app_user_id_seq increment 50;
+alter sequence location_id_seq increment 50;
+alter sequence employee_id_seq increment 50;
+alter sequence project_id_seq increment 50;
+alter sequence task_id_seq increment 50;
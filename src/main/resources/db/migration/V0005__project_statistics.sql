@@ -0,0 +1,33 @@
+-- Per-project counters shown in the project list, maintained by JooqTaskRepository and rebuilt nightly by
+-- ProjectStatisticsReconciliationJob.
+
+create table project_assignee
+(
+    project_id  bigint not null,
+    employee_id bigint not null,
+    task_count  int    not null,
+    primary key (project_id, employee_id),
+    foreign key (project_id) references project (project_id),
+    foreign key (employee_id) references employee (employee_id)
+);
+
+create table project_statistics
+(
+    project_id     bigint not null,
+    task_count     int    not null default 0,
+    assignee_count int    not null default 0,
+    primary key (project_id),
+    foreign key (project_id) references project (project_id)
+);
+
+insert into project_assignee (project_id, employee_id, task_count)
+select t.project_id, ta.employee_id, count(*)
+from task t
+         join task_assignee ta on ta.task_id = t.task_id
+group by t.project_id, ta.employee_id;
+
+insert into project_statistics (project_id, task_count, assignee_count)
+select p.project_id,
+       (select count(*) from task t where t.project_id = p.project_id),
+       (select count(*) from project_assignee pa where pa.project_id = p.project_id)
+from project p;
@@ -0,0 +1,17 @@
+-- Every task query filters by project and sorts by one of the grid columns, with the task ID as tie-breaker. These
+-- indexes let PostgreSQL read the first page straight from the index, in either direction, without sorting.
+-- The due date index must use the same expression as JooqTaskRepository.DUE_DATE_TIME_SORT_KEY.
+
+create index task_project_id_task_id_idx on task (project_id, task_id);
+create index task_project_id_status_idx on task (project_id, task_status, task_id);
+create index task_project_id_priority_idx on task (project_id, task_priority, task_id);
+create index task_project_id_description_idx on task (project_id, description, task_id);
+create index task_project_id_due_date_time_idx
+    on task (project_id, coalesce(due_date_time, timestamp with time zone '9999-12-31 23:59:59+00'), task_id);
+
+-- Superseded by the indexes above. Every task query filters by project, so the single column indexes are no longer
+-- used, and would only slow down inserts.
+drop index task_project_id_idx;
+drop index task_description_idx;
+drop index task_status_idx;
+drop index task_priority_idx;
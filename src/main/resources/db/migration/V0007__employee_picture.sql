@@ -0,0 +1,21 @@
+-- Employee pictures, stored as uploaded together with thumbnails in fixed sizes that are generated on upload.
+
+create table employee_picture
+(
+    employee_id  bigint not null,
+    content_type text   not null,
+    content      bytea  not null,
+    etag         text   not null,
+    primary key (employee_id),
+    foreign key (employee_id) references employee (employee_id)
+);
+
+create table employee_picture_thumbnail
+(
+    employee_id  bigint not null,
+    size         int    not null,
+    content_type text   not null,
+    content      bytea  not null,
+    primary key (employee_id, size),
+    foreign key (employee_id) references employee_picture (employee_id) on delete cascade
+);
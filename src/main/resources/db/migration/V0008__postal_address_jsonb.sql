@@ -0,0 +1,7 @@
+-- Store addresses as jsonb, which PostgreSQL parses once on write instead of on every read, and which supports
+-- indexing and containment queries.
+alter table location
+    alter column address type jsonb using address::jsonb;
+
+alter table employee
+    alter column home_address type jsonb using home_address::jsonb;
@@ -0,0 +1,32 @@
+------------------------------
+-- Address search
+------------------------------
+
+-- The city, postal code and region of an address are stored in different properties depending on the address format
+-- of the country (see the PostalAddress records). These generated columns extract them once on write, so that
+-- addresses can be searched with plain indexes instead of parsing the address of every row.
+--
+-- city:        city, or postOffice in Finnish addresses
+-- postal code: postalCode, or zipCode in US addresses
+-- region:      state in US addresses, province in Canadian addresses, stateProvinceOrRegion in international addresses
+
+alter table location
+    add column address_city        text generated always as (coalesce(address ->> 'city', address ->> 'postOffice')) stored,
+    add column address_postal_code text generated always as (coalesce(address ->> 'postalCode', address ->> 'zipCode')) stored,
+    add column address_region      text generated always as (coalesce(address ->> 'state', address ->> 'province',
+                                                                      address ->> 'stateProvinceOrRegion')) stored;
+
+alter table employee
+    add column home_city        text generated always as (coalesce(home_address ->> 'city', home_address ->> 'postOffice')) stored,
+    add column home_postal_code text generated always as (coalesce(home_address ->> 'postalCode', home_address ->> 'zipCode')) stored,
+    add column home_region      text generated always as (coalesce(home_address ->> 'state', home_address ->> 'province',
+                                                                   home_address ->> 'stateProvinceOrRegion')) stored;
+
+-- Searches ignore case, and must use the exact same expressions to be index scans
+create index location_address_city_idx on location (lower(address_city));
+create index location_address_postal_code_idx on location (lower(address_postal_code));
+create index location_address_region_idx on location (lower(address_region));
+
+create index employee_home_city_idx on employee (lower(home_city));
+create index employee_home_postal_code_idx on employee (lower(home_postal_code));
+create index employee_home_region_idx on employee (lower(home_region));
@@ -0,0 +1,314 @@
+package com.example.whereabouts;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.common.address.*;
+import com.example.whereabouts.common.jooq.IdBlockAllocator;
+import com.example.whereabouts.jooq.enums.*;
+import com.example.whereabouts.projects.ProjectId;
+import com.example.whereabouts.projects.internal.ProjectStatisticsRepository;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static com.example.whereabouts.jooq.Sequences.*;
+import static com.example.whereabouts.jooq.Tables.*;
+
+/**
+ * Generates large volumes of realistic looking data for load tests, benchmarks and integration tests.
+ * <p>
+ * The generated data only depends on the volumes and the seed: running the generator twice with the same arguments
+ * gives the same employees, locations, projects and tasks, although with different IDs. The data is generated and
+ * loaded in chunks, each chunk in its own transaction. With a parallelism of 1, the chunks are loaded in the calling
+ * thread and join its transaction, which is what integration tests want.
+ */
+@Component
+@NullMarked
+public class SyntheticDataGenerator {
+
+    /**
+     * The amount of data to generate. The tasks are distributed over the projects following Zipf's law with the given
+     * exponent, so the first project gets the most tasks and a long tail of projects only get a few. An exponent of
+     * 0 distributes the tasks evenly.
+     */
+    public record Volumes(int locations, int employees, int projects, int tasks, double taskSkew) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int BULK_SIZE = 1_000;
+    private static final int DIRECT_REPORTS = 8;
+    private static final Set<String> COUNTRIES_WITH_OWN_ADDRESS_FORMAT = Set.of(CanadianPostalAddress.ISO_CODE,
+            FinnishPostalAddress.ISO_CODE, GermanPostalAddress.ISO_CODE, USPostalAddress.ISO_CODE);
+    private static final List<String> FIRST_NAMES = List.of("Aino", "Ben", "Carla", "Daniel", "Elif", "Farid",
+            "Greta", "Hiro", "Ines", "Jonas", "Kaja", "Liam", "Maya", "Noah", "Olga", "Pedro", "Quinn", "Rosa", "Sami",
+            "Tara", "Uma", "Viktor", "Wen", "Ximena", "Yusuf", "Zoe");
+    private static final List<String> LAST_NAMES = List.of("Andersson", "Berg", "Costa", "Dubois", "Eriksen",
+            "Fischer", "Garcia", "Hakala", "Ivanova", "Jensen", "Kowalski", "Lindqvist", "Müller", "Nakamura", "Olsen",
+            "Petrov", "Rossi", "Silva", "Tanaka", "Virtanen", "Wagner", "Yilmaz", "Zhang");
+    private static final List<String> TASK_VERBS = List.of("Review", "Update", "Migrate", "Document", "Test",
+            "Deploy", "Refactor", "Plan", "Fix", "Design");
+    private static final List<String> TASK_SUBJECTS = List.of("the onboarding flow", "the quarterly report",
+            "the billing service", "the office move", "the security audit", "the release notes", "the data model",
+            "the supplier contracts", "the hiring plan", "the customer survey");
+
+    private final DSLContext dsl;
+    private final IdBlockAllocator idAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectStatisticsRepository projectStatisticsRepository;
+    private final JooqPostalAddressConverter addressConverter = new JooqPostalAddressConverter();
+    private final List<Country> countries = Country.isoCountries().stream()
+            .filter(country -> !COUNTRIES_WITH_OWN_ADDRESS_FORMAT.contains(country.isoCode()))
+            .toList();
+
+    SyntheticDataGenerator(DSLContext dsl, IdBlockAllocator idAllocator, PlatformTransactionManager transactionManager,
+                           ProjectStatisticsRepository projectStatisticsRepository) {
+        this.dsl = dsl;
+        this.idAllocator = idAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectStatisticsRepository = projectStatisticsRepository;
+    }
+
+    public void generate(Volumes volumes, long seed, int parallelism) {
+        log.info("Generating {} with seed {} and parallelism {}", volumes, seed, parallelism);
+        var locationIds = idAllocator.nextIds(LOCATION_ID_SEQ, volumes.locations());
+        inChunks(volumes.locations(), 1, chunk -> generateLocations(locationIds, chunk, seed));
+        var employeeIds = idAllocator.nextIds(EMPLOYEE_ID_SEQ, volumes.employees());
+        inChunks(volumes.employees(), parallelism, chunk -> generateEmployees(employeeIds, locationIds, chunk, seed));
+        var projectIds = idAllocator.nextIds(PROJECT_ID_SEQ, volumes.projects());
+        inChunks(volumes.projects(), 1, chunk -> generateProjects(projectIds, chunk));
+        var projectOfTask = distributeTasks(volumes, projectIds);
+        inChunks(volumes.tasks(), parallelism, chunk -> generateTasks(projectOfTask, employeeIds, chunk, seed));
+        transactionTemplate.executeWithoutResult(status -> projectStatisticsRepository.rebuild());
+        log.info("Finished generating {}", volumes);
+    }
+
+    /**
+     * Generates tasks without assignees for an existing project. Like any task written with SQL, the generated tasks
+     * are not included in the project statistics until they are {@linkplain ProjectStatisticsRepository#rebuild()
+     * rebuilt}.
+     */
+    public void generateTasks(ProjectId project, int count, long seed) {
+        var projectOfTask = new long[count];
+        Arrays.fill(projectOfTask, project.toLong());
+        inChunks(count, 1, chunk -> generateTasks(projectOfTask, List.of(), chunk, seed));
+    }
+
+    private void generateLocations(List<Long> locationIds, int chunk, long seed) {
+        var random = random(seed, 1, chunk);
+        var locationTypes = LocationType.values();
+        var facilityTypes = FacilityType.values();
+        var locationRows = new ArrayList<Object[]>();
+        var facilityRows = new ArrayList<Object[]>();
+        for (var i = chunkStart(chunk); i < chunkEnd(chunk, locationIds.size()); ++i) {
+            var id = locationIds.get(i);
+            var country = pick(random, countries);
+            var city = pick(random, LAST_NAMES) + (random.nextBoolean() ? "burg" : "ville");
+            var address = new InternationalPostalAddress(random.nextInt(1, 200) + " " + pick(random, FIRST_NAMES) + " Street",
+                    city, null, String.valueOf(random.nextInt(10_000, 99_999)), country);
+            locationRows.add(new Object[]{id, 1L, city + " " + (i + 1),
+                    // Most locations are branch offices
+                    random.nextInt(10) < 7 ? LocationType.BRANCH_OFFICE : locationTypes[random.nextInt(locationTypes.length)],
+                    "UTC", country.isoCode(), addressConverter.to(address), "Generated location",
+                    LocalDate.of(1990, 1, 1).plusDays(random.nextInt(12_000))});
+            for (var facilityType : facilityTypes) {
+                if (random.nextBoolean()) {
+                    facilityRows.add(new Object[]{id, facilityType, random.nextInt(1, 200)});
+                }
+            }
+        }
+        load(LOCATION, locationRows, LOCATION.LOCATION_ID, LOCATION.VERSION, LOCATION.NAME, LOCATION.LOCATION_TYPE,
+                LOCATION.TIME_ZONE, LOCATION.COUNTRY, LOCATION.ADDRESS, LOCATION.ABOUT, LOCATION.ESTABLISHED);
+        load(LOCATION_FACILITY, facilityRows, LOCATION_FACILITY.LOCATION_ID, LOCATION_FACILITY.FACILITY_TYPE,
+                LOCATION_FACILITY.QUANTITY);
+    }
+
+    private void generateEmployees(List<Long> employeeIds, List<Long> locationIds, int chunk, long seed) {
+        var random = random(seed, 2, chunk);
+        var genders = Gender.values();
+        var employeeRows = new ArrayList<Object[]>();
+        var detailsRows = new ArrayList<Object[]>();
+        for (var i = chunkStart(chunk); i < chunkEnd(chunk, employeeIds.size()); ++i) {
+            var id = employeeIds.get(i);
+            var firstName = pick(random, FIRST_NAMES);
+            var lastName = pick(random, LAST_NAMES);
+            var country = pick(random, countries);
+            var address = new InternationalPostalAddress(random.nextInt(1, 200) + " " + pick(random, LAST_NAMES) + " Road",
+                    pick(random, LAST_NAMES) + "ton", null, String.valueOf(random.nextInt(10_000, 99_999)), country);
+            employeeRows.add(new Object[]{id, 1L, firstName, random.nextInt(4) == 0 ? pick(random, FIRST_NAMES) : null,
+                    lastName, firstName, LocalDate.of(1960, 1, 1).plusDays(random.nextInt(15_000)),
+                    genders[random.nextInt(genders.length)], country.isoCode(), "UTC", addressConverter.to(address),
+                    // The index keeps the e-mail addresses unique
+                    "%s.%s.%d@example.com".formatted(toAscii(firstName), toAscii(lastName), i)
+                            .toLowerCase(Locale.ROOT)});
+            var status = random.nextInt(20) == 0 ? EmploymentStatus.INACTIVE : EmploymentStatus.ACTIVE;
+            // Some locations are much bigger than others
+            var location = locationIds.get((int) (locationIds.size() * Math.pow(random.nextDouble(), 2)));
+            // Every chunk is its own reporting tree, so that managers are loaded in the same transaction as their
+            // reports
+            var manager = i == chunkStart(chunk) ? null
+                    : employeeIds.get(chunkStart(chunk) + (i - chunkStart(chunk) - 1) / DIRECT_REPORTS);
+            detailsRows.add(new Object[]{id, 1L, "Job " + random.nextInt(100),
+                    random.nextInt(10) == 0 ? EmploymentType.PART_TIME : EmploymentType.FULL_TIME, status,
+                    WorkArrangement.values()[random.nextInt(WorkArrangement.values().length)], location, manager,
+                    LocalDate.of(2010, 1, 1).plusDays(random.nextInt(5_000))});
+        }
+        load(EMPLOYEE, employeeRows, EMPLOYEE.EMPLOYEE_ID, EMPLOYEE.VERSION, EMPLOYEE.FIRST_NAME, EMPLOYEE.MIDDLE_NAME,
+                EMPLOYEE.LAST_NAME, EMPLOYEE.PREFERRED_NAME, EMPLOYEE.BIRTH_DATE, EMPLOYEE.GENDER, EMPLOYEE.COUNTRY,
+                EMPLOYEE.TIME_ZONE, EMPLOYEE.HOME_ADDRESS, EMPLOYEE.WORK_EMAIL);
+        load(EMPLOYMENT_DETAILS, detailsRows, EMPLOYMENT_DETAILS.EMPLOYEE_ID, EMPLOYMENT_DETAILS.VERSION,
+                EMPLOYMENT_DETAILS.JOB_TITLE, EMPLOYMENT_DETAILS.EMPLOYMENT_TYPE, EMPLOYMENT_DETAILS.EMPLOYMENT_STATUS,
+                EMPLOYMENT_DETAILS.WORK_ARRANGEMENT, EMPLOYMENT_DETAILS.LOCATION_ID, EMPLOYMENT_DETAILS.MANAGER_ID,
+                EMPLOYMENT_DETAILS.HIRE_DATE);
+    }
+
+    private void generateProjects(List<Long> projectIds, int chunk) {
+        var rows = new ArrayList<Object[]>();
+        for (var i = chunkStart(chunk); i < chunkEnd(chunk, projectIds.size()); ++i) {
+            rows.add(new Object[]{projectIds.get(i), 1L, "Project " + (i + 1), "Generated project"});
+        }
+        load(PROJECT, rows, PROJECT.PROJECT_ID, PROJECT.VERSION, PROJECT.NAME, PROJECT.DESCRIPTION);
+    }
+
+    /**
+     * Returns the project of every task, following Zipf's law.
+     */
+    static long[] distributeTasks(Volumes volumes, List<Long> projectIds) {
+        var projectOfTask = new long[volumes.tasks()];
+        if (projectIds.isEmpty()) {
+            return projectOfTask;
+        }
+        var weights = new double[projectIds.size()];
+        var totalWeight = 0.0;
+        for (var i = 0; i < weights.length; ++i) {
+            weights[i] = 1.0 / Math.pow(i + 1, volumes.taskSkew());
+            totalWeight += weights[i];
+        }
+        var task = 0;
+        var cumulativeWeight = 0.0;
+        for (var i = 0; i < weights.length; ++i) {
+            cumulativeWeight += weights[i];
+            var end = i == weights.length - 1 ? projectOfTask.length
+                    : (int) Math.round(projectOfTask.length * cumulativeWeight / totalWeight);
+            for (; task < end; ++task) {
+                projectOfTask[task] = projectIds.get(i);
+            }
+        }
+        return projectOfTask;
+    }
+
+    private void generateTasks(long[] projectOfTask, List<Long> employeeIds, int chunk, long seed) {
+        var random = random(seed, 3, chunk);
+        var statuses = TaskStatus.values();
+        var priorities = TaskPriority.values();
+        var taskIds = idAllocator.nextIds(TASK_ID_SEQ, chunkEnd(chunk, projectOfTask.length) - chunkStart(chunk));
+        var taskRows = new ArrayList<Object[]>();
+        var assigneeRows = new ArrayList<Object[]>();
+        for (var i = chunkStart(chunk); i < chunkEnd(chunk, projectOfTask.length); ++i) {
+            var id = taskIds.get(i - chunkStart(chunk));
+            var dueDate = random.nextInt(5) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(random.nextInt(730));
+            taskRows.add(new Object[]{id, 1L, projectOfTask[i],
+                    pick(random, TASK_VERBS) + " " + pick(random, TASK_SUBJECTS) + " #" + (i + 1),
+                    dueDate, "UTC",
+                    dueDate == null ? null : OffsetDateTime.of(dueDate.atTime(23, 59, 59), ZoneOffset.UTC),
+                    statuses[random.nextInt(statuses.length)], priorities[random.nextInt(priorities.length)]});
+            if (!employeeIds.isEmpty()) {
+                random.ints(random.nextInt(4), 0, employeeIds.size()).distinct()
+                        .forEach(employee -> assigneeRows.add(new Object[]{id, employeeIds.get(employee)}));
+            }
+        }
+        load(TASK, taskRows, TASK.TASK_ID, TASK.VERSION, TASK.PROJECT_ID, TASK.DESCRIPTION, TASK.DUE_DATE,
+                TASK.TIME_ZONE, TASK.DUE_DATE_TIME, TASK.TASK_STATUS, TASK.TASK_PRIORITY);
+        load(TASK_ASSIGNEE, assigneeRows, TASK_ASSIGNEE.TASK_ID, TASK_ASSIGNEE.EMPLOYEE_ID);
+    }
+
+    private void inChunks(int count, int parallelism, IntConsumer chunkGenerator) {
+        var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (parallelism <= 1) {
+            for (var chunk = 0; chunk < chunks; ++chunk) {
+                var c = chunk;
+                transactionTemplate.executeWithoutResult(status -> chunkGenerator.accept(c));
+            }
+            return;
+        }
+        try (var executor = Executors.newFixedThreadPool(parallelism)) {
+            var futures = new ArrayList<Future<?>>();
+            for (var chunk = 0; chunk < chunks; ++chunk) {
+                var c = chunk;
+                futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> chunkGenerator.accept(c))));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating data", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Could not generate data", ex.getCause());
+        }
+    }
+
+    private void load(Table<?> table, List<Object[]> rows, Field<?>... fields) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            var loader = dsl.loadInto(table)
+                    .bulkAfter(BULK_SIZE)
+                    .loadArrays(rows.iterator())
+                    .fields(fields)
+                    .execute();
+            if (!loader.errors().isEmpty()) {
+                throw loader.errors().getFirst().exception();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static SplittableRandom random(long seed, int entity, int chunk) {
+        // Every chunk gets its own random generator, so the data does not depend on the order the chunks are loaded in
+        return new SplittableRandom(seed * 1_000_003L + entity * 65_537L + chunk);
+    }
+
+    /**
+     * Removes the diacritics from the given name, so that it can be used in the local part of an e-mail address.
+     */
+    static String toAscii(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("[^\\p{ASCII}]", "");
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> items) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private static int chunkStart(int chunk) {
+        return chunk * CHUNK_SIZE;
+    }
+
+    private static int chunkEnd(int chunk, int count) {
+        return Math.min(count, (chunk + 1) * CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.whereabouts;
+
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.LocationId;
+import com.example.whereabouts.humanresources.internal.EmployeeRepository;
+import com.example.whereabouts.humanresources.internal.EmploymentDetailsRepository;
+import com.example.whereabouts.humanresources.internal.LocationRepository;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.example.whereabouts.jooq.Tables.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Volumes VOLUMES = new SyntheticDataGenerator.Volumes(50, 2_000, 20,
+            25_000, 1.0);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmploymentDetailsRepository employmentDetailsRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private DSLContext dsl;
+
+    @Test
+    void generates_the_requested_volumes_with_skewed_tasks() {
+        var maxTaskId = maxId("task");
+        var maxProjectId = maxId("project");
+        var maxEmployeeId = maxId("employee");
+
+        generator.generate(VOLUMES, 1, 1);
+
+        var tasksPerProject = dsl.select(TASK.PROJECT_ID, DSL.count())
+                .from(TASK)
+                .where(TASK.TASK_ID.gt(maxTaskId))
+                .groupBy(TASK.PROJECT_ID)
+                .orderBy(TASK.PROJECT_ID)
+                .fetch(1, Integer.class);
+        assertThat(tasksPerProject).hasSize(VOLUMES.projects());
+        assertThat(tasksPerProject.stream().mapToInt(Integer::intValue).sum()).isEqualTo(VOLUMES.tasks());
+        assertThat(tasksPerProject.getFirst()).isGreaterThan(tasksPerProject.getLast() * 10);
+        assertThat(dsl.fetchCount(EMPLOYEE, EMPLOYEE.EMPLOYEE_ID.gt(maxEmployeeId)))
+                .isEqualTo(VOLUMES.employees());
+        // The statistics are rebuilt after the tasks have been loaded
+        assertThat(dsl.fetchSingle("select sum(task_count) from project_statistics where project_id > ?",
+                maxProjectId).get(0, Long.class)).isEqualTo(VOLUMES.tasks());
+    }
+
+    @Test
+    void the_same_seed_generates_the_same_data() {
+        var taskIds = new long[4];
+        var employeeIds = new long[4];
+        var seeds = new long[]{7, 7, 8};
+        taskIds[0] = maxId("task");
+        employeeIds[0] = maxId("employee");
+        for (var i = 0; i < seeds.length; ++i) {
+            generator.generate(VOLUMES, seeds[i], 1);
+            taskIds[i + 1] = maxId("task");
+            employeeIds[i + 1] = maxId("employee");
+        }
+
+        var taskFingerprint = """
+                select md5(string_agg(description || task_status || task_priority || coalesce(due_date::text, '-'),
+                                      ',' order by task_id))
+                from task where task_id > ? and task_id <= ?
+                """;
+        var employeeFingerprint = """
+                select md5(string_agg(first_name || last_name || country || birth_date || gender, ','
+                                      order by employee_id))
+                from employee where employee_id > ? and employee_id <= ?
+                """;
+        assertThat(fingerprint(taskFingerprint, taskIds, 0)).isEqualTo(fingerprint(taskFingerprint, taskIds, 1))
+                .isNotEqualTo(fingerprint(taskFingerprint, taskIds, 2));
+        assertThat(fingerprint(employeeFingerprint, employeeIds, 0))
+                .isEqualTo(fingerprint(employeeFingerprint, employeeIds, 1))
+                .isNotEqualTo(fingerprint(employeeFingerprint, employeeIds, 2));
+    }
+
+    @Test
+    void every_generated_employee_and_location_can_be_read_through_the_repositories() {
+        var maxLocationId = maxId("location");
+        var maxEmployeeId = maxId("employee");
+
+        generator.generate(new SyntheticDataGenerator.Volumes(20, 1_000, 0, 0, 0), 3, 1);
+
+        var locationIds = dsl.select(LOCATION.LOCATION_ID).from(LOCATION)
+                .where(LOCATION.LOCATION_ID.gt(maxLocationId)).fetch(LOCATION.LOCATION_ID);
+        assertThat(locationIds).hasSize(20);
+        for (var id : locationIds) {
+            assertThat(locationRepository.findById(LocationId.of(id))).isPresent();
+        }
+        var employeeIds = dsl.select(EMPLOYEE.EMPLOYEE_ID).from(EMPLOYEE)
+                .where(EMPLOYEE.EMPLOYEE_ID.gt(maxEmployeeId)).fetch(EMPLOYEE.EMPLOYEE_ID);
+        assertThat(employeeIds).hasSize(1_000);
+        // The first employee heads the reporting tree
+        assertThat(dsl.fetchCount(EMPLOYMENT_DETAILS, EMPLOYMENT_DETAILS.EMPLOYEE_ID.gt(maxEmployeeId)
+                .and(EMPLOYMENT_DETAILS.MANAGER_ID.isNotNull()))).isEqualTo(999);
+        for (var id : employeeIds) {
+            assertThat(employeeRepository.findById(EmployeeId.of(id))).isPresent();
+            assertThat(employmentDetailsRepository.findById(EmployeeId.of(id))).isPresent();
+        }
+    }
+
+    @Test
+    void names_are_transliterated_to_ascii() {
+        assertThat(SyntheticDataGenerator.toAscii("M\u00fcller")).isEqualTo("Muller");
+    }
+
+    private long maxId(String table) {
+        return dsl.fetchSingle("select coalesce(max(" + table + "_id), 0) from " + table).get(0, Long.class);
+    }
+
+    private String fingerprint(String sql, long[] ids, int run) {
+        return dsl.fetchSingle(sql, ids[run], ids[run + 1]).get(0, String.class);
+    }
+}
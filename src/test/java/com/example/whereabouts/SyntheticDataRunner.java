@@ -0,0 +1,40 @@
+package com.example.whereabouts;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the database with synthetic data when the application is started with the {@code synthetic-data} profile,
+ * for example {@code TestApplication --spring.profiles.active=synthetic-data --whereabouts.synthetic-data.employees=1000000}.
+ */
+@Component
+@Profile("synthetic-data")
+class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final SyntheticDataGenerator.Volumes volumes;
+    private final long seed;
+    private final int parallelism;
+
+    SyntheticDataRunner(SyntheticDataGenerator generator,
+                        @Value("${whereabouts.synthetic-data.locations:1000}") int locations,
+                        @Value("${whereabouts.synthetic-data.employees:100000}") int employees,
+                        @Value("${whereabouts.synthetic-data.projects:1000}") int projects,
+                        @Value("${whereabouts.synthetic-data.tasks:1000000}") int tasks,
+                        @Value("${whereabouts.synthetic-data.task-skew:1.0}") double taskSkew,
+                        @Value("${whereabouts.synthetic-data.seed:42}") long seed,
+                        @Value("${whereabouts.synthetic-data.parallelism:4}") int parallelism) {
+        this.generator = generator;
+        this.volumes = new SyntheticDataGenerator.Volumes(locations, employees, projects, tasks, taskSkew);
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generator.generate(volumes, seed, parallelism);
+    }
+}
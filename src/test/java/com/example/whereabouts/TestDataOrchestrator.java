@@ -8,7 +8,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("!integration-test")
+@Profile("!integration-test & !benchmark")
 class TestDataOrchestrator {
     private final UserTestDataService userTestDataService;
     private final LocationTestDataService locationTestDataService;
@@ -0,0 +1,66 @@
+package com.example.whereabouts.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountCacheTest {
+
+    private final List<String> queries = new ArrayList<>();
+
+    @Test
+    void least_recently_used_entries_are_evicted_when_the_cache_is_full() {
+        var cache = new CountCache<String>(2, Duration.ofMinutes(1));
+        cache.get("a", () -> count("a"));
+        cache.get("b", () -> count("b"));
+        cache.get("a", () -> count("a"));
+        cache.get("c", () -> count("c"));
+
+        queries.clear();
+        cache.get("a", () -> count("a"));
+        cache.get("b", () -> count("b"));
+        cache.get("c", () -> count("c"));
+        assertThat(queries).containsExactly("b", "c");
+    }
+
+    @Test
+    void counts_are_invalidated_only_after_the_transaction_commits() {
+        var cache = new CountCache<String>(Duration.ofMinutes(1));
+        cache.get("a", () -> count("a"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAllAfterCommit();
+            cache.get("a", () -> count("a"));
+            assertThat(queries).containsExactly("a");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get("a", () -> count("a"));
+        assertThat(queries).containsExactly("a", "a");
+    }
+
+    @Test
+    void counts_loaded_while_the_cache_is_invalidated_are_not_cached() {
+        var cache = new CountCache<String>(Duration.ofMinutes(1));
+        cache.get("a", () -> {
+            cache.invalidateAll();
+            return count("a");
+        });
+        cache.get("a", () -> count("a"));
+        assertThat(queries).containsExactly("a", "a");
+    }
+
+    private int count(String key) {
+        queries.add(key);
+        return key.length();
+    }
+}
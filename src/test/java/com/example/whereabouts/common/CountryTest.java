@@ -0,0 +1,31 @@
+package com.example.whereabouts.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountryTest {
+
+    @Test
+    void iso_countries_are_shared_instances() {
+        var finland = Country.ofIsoCode("FI");
+
+        assertThat(Country.ofIsoCode("FI")).isSameAs(finland);
+        assertThat(Country.ofLocale(Locale.of("", "FI"))).isSameAs(finland);
+        assertThat(Country.isoCountries()).contains(finland);
+        assertThat(finland.isoCode()).isEqualTo("FI");
+        assertThat(finland.flagUnicode()).isEqualTo("🇫🇮");
+        assertThat(finland.displayName(Locale.ENGLISH)).isEqualTo("Finland");
+        assertThat(finland.displayName(Locale.GERMAN)).isEqualTo("Finnland");
+    }
+
+    @Test
+    void codes_outside_the_table_behave_as_before() {
+        assertThat(Country.ofIsoCode("fi")).isEqualTo(Country.ofIsoCode("FI"));
+        assertThatThrownBy(() -> Country.ofIsoCode("FIN")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Country.ofIsoCode("F")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.whereabouts.common;
+
+/**
+ * The validators of {@link EmailAddress}, {@link DomainName}, {@link PhoneNumber} and {@link IpAddress} as they were
+ * before they were rewritten to validate in a single pass without allocating. Kept as a reference for
+ * {@link ValidatorEquivalenceTest} and the validator benchmark.
+ */
+public final class LegacyValidators {
+
+    private LegacyValidators() {
+    }
+
+    public static boolean isValidEmailAddress(String value) {
+        if (value.isEmpty() || value.length() > EmailAddress.MAX_LENGTH) {
+            return false;
+        }
+        var parts = value.split("@");
+        if (parts.length != 2) {
+            return false;
+        }
+        return isValidLocalPart(parts[0]) && isValidEmailDomainName(parts[1]);
+    }
+
+    private static boolean isValidLocalPart(String localPart) {
+        if (localPart.isEmpty() || localPart.length() > 64) {
+            return false;
+        }
+        if (!localPart.matches("[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+")) {
+            return false;
+        }
+        if (localPart.contains("..")) {
+            return false;
+        }
+        return !localPart.startsWith(".") && !localPart.endsWith(".");
+    }
+
+    private static boolean isValidEmailDomainName(String domainName) {
+        if (domainName.isEmpty() || domainName.length() > 255) {
+            return false;
+        }
+        if (domainName.startsWith("[")) {
+            if (!domainName.endsWith("]")) {
+                return false;
+            }
+            if (domainName.startsWith("[IPv6:")) {
+                return isValidIpv6(domainName.substring(6, domainName.length() - 1));
+            } else {
+                return isValidIpv4(domainName.substring(1, domainName.length() - 1));
+            }
+        } else {
+            return isValidDomainName(domainName);
+        }
+    }
+
+    public static boolean isValidDomainName(String value) {
+        if (value.isEmpty() || value.length() > DomainName.MAX_LENGTH) {
+            return false;
+        }
+        var labels = value.split("\\.", -1);
+        for (var label : labels) {
+            if (label.isEmpty() || label.length() > 63) {
+                return false;
+            }
+            for (var c : label.toCharArray()) {
+                if (!Character.isDigit(c) && (c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && c != '-') {
+                    return false;
+                }
+            }
+            if (label.charAt(0) == '-' || label.charAt(label.length() - 1) == '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidPhoneNumber(String value) {
+        if (value.isEmpty() || value.length() > PhoneNumber.MAX_LENGTH) {
+            return false;
+        }
+        if (value.charAt(0) == '+') {
+            return value.length() > 1 && areDigitsOnly(value.substring(1));
+        } else {
+            return areDigitsOnly(value);
+        }
+    }
+
+    private static boolean areDigitsOnly(String s) {
+        for (var c : s.toCharArray()) {
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String sanitizePhoneNumber(String value) {
+        var sb = new StringBuilder();
+        for (var c : value.toCharArray()) {
+            if (!Character.isWhitespace(c) && c != '-' && c != '(' && c != ')' && c != '.') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static boolean isValidIpv4(String value) {
+        if (value.length() < IpAddress.Ipv4.MIN_LENGTH || value.length() > IpAddress.Ipv4.MAX_LENGTH) {
+            return false;
+        }
+        var octets = value.split("\\.");
+        if (octets.length != 4) {
+            return false;
+        }
+        for (var octet : octets) {
+            try {
+                var number = Integer.parseInt(octet);
+                if (number < 0 || number > 255) {
+                    return false;
+                }
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidIpv6(String value) {
+        if (value.length() < IpAddress.Ipv6.MIN_LENGTH || value.length() > IpAddress.Ipv6.MAX_LENGTH) {
+            return false;
+        }
+        var quibbles = value.split(":", -1);
+        if (quibbles.length < 3 || quibbles.length > 8) {
+            return false;
+        }
+        for (var quibble : quibbles) {
+            if (quibble.isEmpty()) {
+                continue;
+            }
+            if (quibble.length() > 4) {
+                return false;
+            }
+            for (var c : quibble.toCharArray()) {
+                if (!Character.isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                    return false;
+                }
+            }
+        }
+        var doubleColon = value.indexOf("::");
+        if (doubleColon == -1 && quibbles.length != 8) {
+            return false;
+        }
+        if (doubleColon > -1 && value.indexOf("::", doubleColon + 1) != -1) {
+            return false;
+        }
+        if (doubleColon > 0 && quibbles[0].isEmpty()) {
+            return false;
+        }
+        if (doubleColon < value.length() - 2 && quibbles[quibbles.length - 1].isEmpty()) {
+            return false;
+        }
+        return true;
+    }
+}
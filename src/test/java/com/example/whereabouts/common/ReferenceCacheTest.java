@@ -0,0 +1,85 @@
+package com.example.whereabouts.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> loads = new ArrayList<>();
+
+    @Test
+    void only_missing_keys_are_loaded_in_a_single_call() {
+        var cache = new ReferenceCache<Integer, String>("test", 100, Duration.ofMinutes(1), meterRegistry);
+
+        assertThat(cache.getAll(Set.of(1, 2), this::load)).isEqualTo(Map.of(1, "1", 2, "2"));
+        assertThat(cache.getAll(Set.of(1, 2, 3, 4), this::load)).isEqualTo(Map.of(1, "1", 2, "2", 3, "3", 4, "4"));
+        assertThat(loads).containsExactly(Set.of(1, 2), Set.of(3, 4));
+
+        cache.invalidate(1);
+        cache.getAll(Set.of(1, 2), this::load);
+        assertThat(loads.getLast()).isEqualTo(Set.of(1));
+
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void least_recently_used_entries_are_evicted_when_the_cache_is_full() {
+        var cache = new ReferenceCache<Integer, String>("test", 2, Duration.ofMinutes(1), meterRegistry);
+        cache.getAll(Set.of(1), this::load);
+        cache.getAll(Set.of(2), this::load);
+        cache.getAll(Set.of(1), this::load);
+        cache.getAll(Set.of(3), this::load);
+
+        loads.clear();
+        cache.getAll(Set.of(1, 2, 3), this::load);
+        assertThat(loads).containsExactly(Set.of(2));
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void expired_entries_are_loaded_again() throws InterruptedException {
+        var cache = new ReferenceCache<Integer, String>("test", 100, Duration.ofNanos(1), meterRegistry);
+        cache.getAll(Set.of(1), this::load);
+        Thread.sleep(1);
+        cache.getAll(Set.of(1), this::load);
+        assertThat(loads).containsExactly(Set.of(1), Set.of(1));
+    }
+
+    @Test
+    void keys_without_values_are_not_cached() {
+        var cache = new ReferenceCache<Integer, String>("test", 100, Duration.ofMinutes(1), meterRegistry);
+        assertThat(cache.getAll(Set.of(1, -1), keys -> load(keys.stream().filter(k -> k > 0)
+                .collect(Collectors.toSet())))).isEqualTo(Map.of(1, "1"));
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void values_loaded_while_the_cache_is_invalidated_are_not_cached() {
+        var cache = new ReferenceCache<Integer, String>("test", 100, Duration.ofMinutes(1), meterRegistry);
+        assertThat(cache.getAll(Set.of(1), keys -> {
+            cache.invalidate(1);
+            return load(keys);
+        })).isEqualTo(Map.of(1, "1"));
+        cache.getAll(Set.of(1), this::load);
+        assertThat(loads).containsExactly(Set.of(1), Set.of(1));
+    }
+
+    private Map<Integer, String> load(Set<Integer> keys) {
+        loads.add(new HashSet<>(keys));
+        return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.whereabouts.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the single-pass validators accept and reject exactly the same strings as the {@link LegacyValidators}
+ * they replaced. The strings are generated from a fixed seed: random strings over the characters that matter to each
+ * validator, and random edits of valid values, so that most of them are close to the boundary between valid and
+ * invalid.
+ */
+class ValidatorEquivalenceTest {
+
+    private static final int SAMPLES = 50_000;
+    // Arabic-Indic digit three, which Character.isDigit and Integer.parseInt accept
+    private static final char NON_ASCII_DIGIT = '\u0663';
+
+    private final Random random = new Random(20240521L);
+
+    @Test
+    void email_address_validation_matches_the_previous_implementation() {
+        assertEquivalent(EmailAddress::isValid, LegacyValidators::isValidEmailAddress,
+                "aZ09.!#'*_`{|}~-@[]:IPv6f \u00e9" + NON_ASCII_DIGIT,
+                List.of("john.doe@example.com", "a@b", "o'hara+tag@sub.example.co.uk", "user@[192.168.0.1]",
+                        "user@[IPv6:2001:db8::1]", "user@[IPv6:::]", "user@example.com@", "x".repeat(64) + "@example.com",
+                        "a@" + "b".repeat(63) + ".com", "a@" + ("c".repeat(63) + ".").repeat(4) + "d"));
+    }
+
+    @Test
+    void domain_name_validation_matches_the_previous_implementation() {
+        assertEquivalent(DomainName::isValid, LegacyValidators::isValidDomainName,
+                "aZ09-._\u00e9" + NON_ASCII_DIGIT,
+                List.of("example.com", "a", "xn--bcher-kva.example", "1.2.3.4", "a-b.c-d", "a".repeat(63) + ".com",
+                        ("b".repeat(63) + ".").repeat(3) + "c".repeat(61)));
+    }
+
+    @Test
+    void phone_number_validation_matches_the_previous_implementation() {
+        assertEquivalent(PhoneNumber::isValid, LegacyValidators::isValidPhoneNumber,
+                "0123456789+a" + NON_ASCII_DIGIT,
+                List.of("+358401234567", "0401234567", "+1", "1", "1234567890123456", "+123456789012345"));
+    }
+
+    @Test
+    void phone_number_sanitization_matches_the_previous_implementation() {
+        assertEquivalent(PhoneNumber::sanitize, LegacyValidators::sanitizePhoneNumber,
+                "0123456789+-(). \ta\u00a0\u2003",
+                List.of("+358 40 123 4567", "(040) 123-4567", "040.123.4567", "+358401234567", ""));
+    }
+
+    @Test
+    void ipv4_validation_matches_the_previous_implementation() {
+        assertEquivalent(IpAddress.Ipv4::isValidIpv4, LegacyValidators::isValidIpv4,
+                "0123456789.+-a" + NON_ASCII_DIGIT,
+                List.of("0.0.0.0", "255.255.255.255", "192.168.0.1", "10.0.0.1.", "-0.+1.001.255", "000000000.0.0.0"));
+    }
+
+    @Test
+    void ipv6_validation_matches_the_previous_implementation() {
+        assertEquivalent(IpAddress.Ipv6::isValidIpv6, LegacyValidators::isValidIpv6,
+                "0123456789abcdefABCDEFg:." + NON_ASCII_DIGIT,
+                List.of("::", "::1", "1::", "2001:db8::1", "2001:0db8:85a3:0000:0000:8a2e:0370:7334", "fe80::1:2:3:4",
+                        ":1:2:3:4:5:6:7", "1:2:3:4:5:6:7:"));
+    }
+
+    private void assertEquivalent(Function<String, Object> function, Function<String, Object> legacyFunction,
+                                  String alphabet, List<String> validValues) {
+        var maxLength = validValues.stream().mapToInt(String::length).max().orElse(0) + 4;
+        for (var value : validValues) {
+            assertThat(function.apply(value)).as("%s", value).isEqualTo(legacyFunction.apply(value));
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            var value = random.nextBoolean()
+                    ? randomString(alphabet, maxLength)
+                    : edit(validValues.get(random.nextInt(validValues.size())), alphabet);
+            assertThat(function.apply(value)).as("%s", value).isEqualTo(legacyFunction.apply(value));
+        }
+    }
+
+    private String randomString(String alphabet, int maxLength) {
+        // Mostly short strings, as they are more likely to be valid
+        var length = random.nextInt(4) == 0 ? random.nextInt(maxLength + 1) : random.nextInt(Math.min(maxLength, 16) + 1);
+        var sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private String edit(String value, String alphabet) {
+        var sb = new StringBuilder(value);
+        var edits = 1 + random.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            var c = alphabet.charAt(random.nextInt(alphabet.length()));
+            var position = random.nextInt(sb.length() + 1);
+            switch (random.nextInt(3)) {
+                case 0 -> sb.insert(position, c);
+                case 1 -> {
+                    if (position < sb.length()) {
+                        sb.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (position < sb.length()) {
+                        sb.setCharAt(position, c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
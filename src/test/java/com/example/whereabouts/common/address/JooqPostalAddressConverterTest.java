@@ -0,0 +1,57 @@
+package com.example.whereabouts.common.address;
+
+import com.example.whereabouts.common.Country;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JooqPostalAddressConverterTest {
+
+    private final JooqPostalAddressConverter converter = new JooqPostalAddressConverter();
+
+    static List<PostalAddress> createAddresses() {
+        return List.of(
+                new CanadianPostalAddress("1 Street", "Toronto", CanadianProvince.ON, CanadianPostalCode.of("M5V 2T6"),
+                        Country.ofIsoCode(CanadianPostalAddress.ISO_CODE)),
+                new FinnishPostalAddress("Ruukinkatu 2-4", FinnishPostalCode.of("20540"), "Turku",
+                        Country.ofIsoCode(FinnishPostalAddress.ISO_CODE)),
+                new GermanPostalAddress("Hauptstraße 1", GermanPostalCode.of("10115"), "Berlin",
+                        Country.ofIsoCode(GermanPostalAddress.ISO_CODE)),
+                new USPostalAddress("1 Main Street", "Springfield", USState.IL, USZipCode.of("62701"),
+                        Country.ofIsoCode(USPostalAddress.ISO_CODE)),
+                new InternationalPostalAddress("Drottninggatan 1", "Stockholm", null, "111 51",
+                        Country.ofIsoCode("SE"))
+        );
+    }
+
+    @Test
+    void every_address_type_survives_a_round_trip() {
+        for (var address : createAddresses()) {
+            assertThat(converter.from(converter.to(address))).isEqualTo(address);
+        }
+    }
+
+    @Test
+    void address_type_is_chosen_by_country_wherever_it_is_in_the_object() {
+        // PostgreSQL does not keep the order of the properties of jsonb objects, so the country may come first or last
+        var countryFirst = JSONB.jsonb("""
+                {"country": "FI", "streetAddress": "Ruukinkatu 2-4", "postalCode": "20540", "postOffice": "Turku"}""");
+        var countryLast = JSONB.jsonb("""
+                {"streetAddress": "Ruukinkatu 2-4", "postalCode": "20540", "postOffice": "Turku", "country": "FI"}""");
+
+        assertThat(converter.from(countryFirst)).isInstanceOf(FinnishPostalAddress.class);
+        assertThat(converter.from(countryLast)).isEqualTo(converter.from(countryFirst));
+    }
+
+    @Test
+    void countries_without_own_format_use_the_international_format() {
+        var json = JSONB.jsonb("""
+                {"city": "Stockholm", "country": "SE", "postalCode": "111 51"}""");
+
+        assertThat(converter.from(json)).isEqualTo(
+                new InternationalPostalAddress(null, "Stockholm", null, "111 51", Country.ofIsoCode("SE")));
+    }
+}
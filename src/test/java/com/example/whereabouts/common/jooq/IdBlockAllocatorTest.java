@@ -0,0 +1,87 @@
+package com.example.whereabouts.common.jooq;
+
+import com.example.whereabouts.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.whereabouts.jooq.Sequences.TASK_ID_SEQ;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class IdBlockAllocatorTest {
+
+    @Autowired
+    private IdBlockAllocator allocator;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private DSLContext dsl;
+
+    @Test
+    void ids_are_handed_out_from_blocks_reserved_by_the_sequence() {
+        var ids = allocator.nextIds(TASK_ID_SEQ, 120);
+        assertThat(ids).doesNotHaveDuplicates();
+        // An ID allocated directly with nextval must never collide with the allocated IDs
+        var direct = dsl.nextval(TASK_ID_SEQ);
+        assertThat(ids).doesNotContain(direct);
+        assertThat(meterRegistry.get("whereabouts.id.block.refills").tag("sequence", TASK_ID_SEQ.getName()).counter()
+                .count()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void only_the_missing_blocks_are_reserved() {
+        allocator.nextId(TASK_ID_SEQ);
+        var refills = meterRegistry.get("whereabouts.id.block.refills").tag("sequence", TASK_ID_SEQ.getName())
+                .counter();
+        var before = refills.count();
+        var ids = allocator.nextIds(TASK_ID_SEQ, 1_000);
+        assertThat(ids).hasSize(1_000).doesNotHaveDuplicates();
+        // What is left of the current block is used first, so 20 or 21 blocks of 50 are needed
+        assertThat(refills.count() - before).isBetween(20.0, 21.0);
+    }
+
+    @Test
+    void sequences_outside_the_current_schema_are_supported() {
+        dsl.execute("create schema id_block_test");
+        dsl.execute("create sequence id_block_test.test_seq increment 10");
+        var sequence = DSL.sequence(DSL.name("id_block_test", "test_seq"), SQLDataType.BIGINT);
+
+        assertThat(allocator.nextIds(sequence, 25)).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void missing_sequence_is_reported_by_name() {
+        var sequence = DSL.sequence(DSL.name("no_such_seq"), SQLDataType.BIGINT);
+
+        assertThatThrownBy(() -> allocator.nextId(sequence))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no_such_seq");
+    }
+
+    @Test
+    void concurrent_allocation_never_returns_the_same_id_twice() throws Exception {
+        var ids = ConcurrentHashMap.<Long>newKeySet();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var futures = new ArrayList<Future<List<Long>>>();
+            for (var i = 0; i < 8; ++i) {
+                futures.add(executor.submit(() -> allocator.nextIds(TASK_ID_SEQ, 500)));
+            }
+            for (var future : futures) {
+                ids.addAll(future.get());
+            }
+        }
+        assertThat((Set<Long>) ids).hasSize(8 * 500);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.internal.CountryLocationStatistics;
+import com.example.whereabouts.humanresources.internal.LocationTreeNodeQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CountryStatisticsCacheTest {
+
+    private final Country finland = Country.ofIsoCode("FI");
+    private final Country sweden = Country.ofIsoCode("SE");
+    private final LocationTreeNodeQuery query = mock(LocationTreeNodeQuery.class);
+    private final CountryStatisticsCache cache = new CountryStatisticsCache(query);
+
+    @Test
+    void statistics_are_loaded_once_and_reloaded_after_the_invalidating_transaction_commits() {
+        when(query.findCountryStatistics()).thenReturn(
+                List.of(new CountryLocationStatistics(finland, 2, 10)),
+                List.of(new CountryLocationStatistics(finland, 3, 10), new CountryLocationStatistics(sweden, 1, 5)));
+
+        assertThat(cache.countLocations()).isEqualTo(2);
+        assertThat(cache.countCountries()).isEqualTo(1);
+        verify(query, times(1)).findCountryStatistics();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit();
+            assertThat(cache.countLocations(finland)).isEqualTo(2);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cache.countLocations(finland)).isEqualTo(3);
+        assertThat(cache.countCountries()).isEqualTo(2);
+        verify(query, times(2)).findCountryStatistics();
+    }
+
+    @Test
+    void statistics_are_kept_if_the_invalidating_transaction_rolls_back() {
+        when(query.findCountryStatistics()).thenReturn(List.of(new CountryLocationStatistics(finland, 2, 10)));
+        cache.countLocations();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.countLocations();
+        verify(query, times(1)).findCountryStatistics();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.internal.EmployeePictureRepository;
+import com.example.whereabouts.security.AppRoles;
+import com.vaadin.flow.server.streams.DownloadHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@IntegrationTest
+@WithMockUser(roles = {AppRoles.EMPLOYEE_READ, AppRoles.EMPLOYEE_UPDATE})
+class EmployeePictureServiceTest {
+
+    @Autowired
+    private EmployeePictureService pictureService;
+    @Autowired
+    private EmployeePictureRepository pictureRepository;
+    @Autowired
+    private EmployeeTestDataService employeeTestDataService;
+
+    @Test
+    void upload_generates_square_jpeg_thumbnails_of_every_size() throws IOException {
+        var employee = employeeTestDataService.createEmployee();
+        pictureService.uploadPicture(employee, createPicture(300, 200, Color.RED, "png"));
+
+        assertThat(pictureRepository.findOriginal(employee).orElseThrow().contentType()).isEqualTo("image/png");
+        for (var size : EmployeePictureSize.values()) {
+            var thumbnail = pictureRepository.findThumbnails(Set.of(employee), size).get(employee);
+            assertThat(thumbnail.contentType()).isEqualTo("image/jpeg");
+            var image = ImageIO.read(new ByteArrayInputStream(thumbnail.content()));
+            assertThat(image.getWidth()).as("Width of %s", size).isEqualTo(size.pixels());
+            assertThat(image.getHeight()).as("Height of %s", size).isEqualTo(size.pixels());
+        }
+    }
+
+    @Test
+    void pictures_with_too_many_pixels_are_rejected_before_they_are_decoded() throws IOException {
+        var employee = employeeTestDataService.createEmployee();
+        // A blank bitmap compresses into a few kilobytes, however many pixels it has
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(8_000, 6_000, BufferedImage.TYPE_BYTE_BINARY), "png", out);
+        assertThat(out.size()).isLessThan(EmployeePictureService.MAX_PICTURE_BYTES);
+
+        assertThatThrownBy(() -> pictureService.uploadPicture(employee, out.toByteArray()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pixels");
+        assertThatThrownBy(() -> pictureService.uploadPicture(employee, new byte[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(pictureRepository.findEtag(employee)).isEmpty();
+    }
+
+    @Test
+    void deleted_picture_is_not_found_by_a_handler_created_before_the_deletion() throws IOException {
+        var employee = employeeTestDataService.createEmployee();
+        pictureService.uploadPicture(employee, createPicture(100, 100, Color.RED, "png"));
+        var handler = requireNonNull(pictureService.findPicture(employee, EmployeePictureSize.MEDIUM));
+
+        pictureService.deletePicture(employee);
+        var response = PictureDownloadHandlerTest.handle(handler, null, new ByteArrayOutputStream());
+        verify(response).setStatus(404);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void cached_small_thumbnail_is_invalidated_when_the_picture_changes() throws IOException {
+        // The cache is only invalidated once the change has been committed
+        var employee = employeeTestDataService.createEmployee();
+        assertThat(pictureService.findPicture(employee)).isNull();
+
+        pictureService.uploadPicture(employee, createPicture(100, 100, Color.RED, "png"));
+        var first = etag(requireNonNull(pictureService.findPicture(employee)));
+        assertThat(etag(requireNonNull(pictureService.findPicture(employee)))).isEqualTo(first);
+
+        pictureService.uploadPicture(employee, createPicture(100, 100, Color.BLUE, "png"));
+        assertThat(etag(requireNonNull(pictureService.findPicture(employee)))).isNotEqualTo(first);
+
+        pictureService.deletePicture(employee);
+        assertThat(pictureService.findPicture(employee)).isNull();
+    }
+
+    private static String etag(DownloadHandler handler) throws IOException {
+        var response = PictureDownloadHandlerTest.handle(handler, null, new ByteArrayOutputStream());
+        var etag = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), etag.capture());
+        return etag.getValue();
+    }
+
+    private static byte[] createPicture(int width, int height, Color color, String formatName) throws IOException {
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        var graphics = image.createGraphics();
+        try {
+            graphics.setColor(color);
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, out);
+        return out.toByteArray();
+    }
+}
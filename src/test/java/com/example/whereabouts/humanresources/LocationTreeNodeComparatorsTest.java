@@ -0,0 +1,85 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.common.address.InternationalPostalAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationTreeNodeComparatorsTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @BeforeEach
+    void setUp() {
+        // Countries are sorted by their display name in the default locale
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    void countries_are_sorted_by_display_name_with_a_collator() {
+        var austria = country("AT", 1);
+        var aland = country("AX", 1);
+        var zambia = country("ZM", 1);
+
+        assertThat(sortCountries(LocationTreeNodeComparators.DEFAULT_SORT, zambia, austria, aland))
+                .containsExactly(aland, austria, zambia);
+        assertThat(sortCountries(Sort.by(Sort.Direction.DESC, LocationSortableProperty.NAME.name()),
+                zambia, austria, aland))
+                .containsExactly(zambia, austria, aland);
+    }
+
+    @Test
+    void countries_with_equal_sort_keys_are_sorted_by_iso_code() {
+        var germany = country("DE", 5);
+        var finland = country("FI", 5);
+        var sweden = country("SE", 10);
+
+        assertThat(sortCountries(Sort.by(Sort.Direction.DESC, LocationSortableProperty.EMPLOYEES.name()),
+                finland, germany, sweden))
+                .containsExactly(sweden, germany, finland);
+    }
+
+    @Test
+    void locations_are_sorted_by_every_sort_order_and_then_by_id() {
+        var hq = location(1, "Helsinki", LocationType.GLOBAL_HQ, 10);
+        var branch1 = location(2, "Tampere", LocationType.BRANCH_OFFICE, 3);
+        var branch2 = location(3, "Espoo", LocationType.BRANCH_OFFICE, 3);
+        var branch3 = location(4, "Espoo", LocationType.BRANCH_OFFICE, 7);
+
+        assertThat(sortLocations(Sort.by(Sort.Order.asc(LocationSortableProperty.LOCATION_TYPE.name()),
+                Sort.Order.desc(LocationSortableProperty.NAME.name())), branch3, branch2, branch1, hq))
+                .containsExactly(hq, branch1, branch2, branch3);
+        assertThat(sortLocations(Sort.by(Sort.Direction.ASC, LocationSortableProperty.EMPLOYEES.name()),
+                hq, branch3, branch2, branch1))
+                .containsExactly(branch1, branch2, branch3, hq);
+    }
+
+    private static List<LocationTreeNode.CountryNode> sortCountries(Sort sort, LocationTreeNode.CountryNode... nodes) {
+        return List.of(nodes).stream().sorted(LocationTreeNodeComparators.countries(sort)).toList();
+    }
+
+    private static List<LocationTreeNode.LocationNode> sortLocations(Sort sort, LocationTreeNode.LocationNode... nodes) {
+        return List.of(nodes).stream().sorted(LocationTreeNodeComparators.locations(sort)).toList();
+    }
+
+    static LocationTreeNode.CountryNode country(String isoCode, int employees) {
+        return new LocationTreeNode.CountryNode(Country.ofIsoCode(isoCode), employees);
+    }
+
+    static LocationTreeNode.LocationNode location(long id, String name, LocationType locationType, int employees) {
+        return new LocationTreeNode.LocationNode(LocationId.of(id), name, employees, locationType,
+                new InternationalPostalAddress("Street", name, null, "12345", Country.ofIsoCode("FI")));
+    }
+}
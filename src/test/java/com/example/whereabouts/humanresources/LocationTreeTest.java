@@ -0,0 +1,72 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.humanresources.internal.LocationTreeRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.example.whereabouts.humanresources.LocationTreeNodeComparatorsTest.country;
+import static com.example.whereabouts.humanresources.LocationTreeNodeComparatorsTest.location;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationTreeTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+    private final LocationTreeNode.CountryNode finland = country("FI", 15);
+    private final LocationTreeNode.CountryNode germany = country("DE", 20);
+    private final LocationTreeNode.CountryNode sweden = country("SE", 1);
+    private final LocationTreeNode.LocationNode helsinki = location(1, "Helsinki", LocationType.BRANCH_OFFICE, 10);
+    private final LocationTreeNode.LocationNode espoo = location(2, "Espoo", LocationType.REGIONAL_HQ, 5);
+    private final LocationTreeNode.LocationNode berlin = location(3, "Berlin", LocationType.GLOBAL_HQ, 20);
+    private final LocationTreeNode.LocationNode stockholm = location(4, "Stockholm", LocationType.REMOTE_HUB, 1);
+    private final LocationTree tree = new LocationTree(List.of(
+            new LocationTreeRow(sweden, stockholm),
+            new LocationTreeRow(finland, helsinki),
+            new LocationTreeRow(germany, berlin),
+            new LocationTreeRow(finland, espoo)));
+
+    @BeforeEach
+    void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    void children_are_counted_on_every_level() {
+        assertThat(tree.countChildren(null)).isEqualTo(3);
+        assertThat(tree.countChildren(finland)).isEqualTo(2);
+        assertThat(tree.countChildren(country("NO", 0))).isZero();
+        assertThat(tree.countChildren(helsinki)).isZero();
+    }
+
+    @Test
+    void countries_are_sorted_and_paged() {
+        assertThat(tree.findChildren(null, PageRequest.of(0, 2))).containsExactly(finland, germany);
+        assertThat(tree.findChildren(null, PageRequest.of(1, 2))).containsExactly(sweden);
+        assertThat(tree.findChildren(null, PageRequest.of(2, 2))).isEmpty();
+        assertThat(tree.findChildren(null, PageRequest.of(0, 10,
+                Sort.by(Sort.Direction.DESC, LocationSortableProperty.EMPLOYEES.name()))))
+                .containsExactly(germany, finland, sweden);
+    }
+
+    @Test
+    void locations_are_sorted_and_paged() {
+        assertThat(tree.findChildren(finland, PageRequest.of(0, 10))).containsExactly(espoo, helsinki);
+        assertThat(tree.findChildren(finland, PageRequest.of(0, 10,
+                Sort.by(Sort.Direction.DESC, LocationSortableProperty.NAME.name()))))
+                .containsExactly(helsinki, espoo);
+        assertThat(tree.findChildren(finland, PageRequest.of(1, 1,
+                Sort.by(Sort.Direction.DESC, LocationSortableProperty.LOCATION_TYPE.name()))))
+                .containsExactly(espoo);
+        assertThat(tree.findChildren(helsinki, PageRequest.of(0, 10))).isEmpty();
+    }
+}
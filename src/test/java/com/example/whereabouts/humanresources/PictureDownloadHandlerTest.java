@@ -0,0 +1,100 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.humanresources.internal.StoredPicture;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.streams.DownloadEvent;
+import com.vaadin.flow.server.streams.DownloadHandler;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class PictureDownloadHandlerTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void current_entity_tag_is_answered_with_not_modified_without_loading_the_picture() throws IOException {
+        var handler = new PictureDownloadHandler("picture.jpg", "etag1", () -> load("etag1"));
+
+        var response = handle(handler, "\"etag0\", \"etag1\"", new ByteArrayOutputStream());
+        verify(response).setStatus(304);
+        verify(response).setHeader("ETag", "\"etag1\"");
+        verify(response).setHeader("Cache-Control", "private, max-age=60, must-revalidate");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void entity_tags_are_matched_exactly_in_a_list_of_tags() throws IOException {
+        var handler = new PictureDownloadHandler("picture.jpg", "etag1", () -> load("etag1"));
+
+        verify(handle(handler, "\"etag0\",W/\"etag1\" , \"etag2\"", new ByteArrayOutputStream())).setStatus(304);
+        verify(handle(handler, " * ", new ByteArrayOutputStream())).setStatus(304);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void entity_tag_that_only_contains_the_current_one_does_not_match() throws IOException {
+        var handler = new PictureDownloadHandler("picture.jpg", "etag1", () -> load("etag1"));
+
+        var out = new ByteArrayOutputStream();
+        var response = handle(handler, "\"x\"etag1\"x\", \"etag10\"", out);
+        verify(response, never()).setStatus(anyInt());
+        assertThat(out.toByteArray()).containsExactly(1, 2, 3);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void picture_is_served_with_the_entity_tag_it_was_loaded_with() throws IOException {
+        // The picture was replaced after the handler was created
+        var handler = new PictureDownloadHandler("picture.jpg", "etag1", () -> load("etag2"));
+
+        var out = new ByteArrayOutputStream();
+        var response = handle(handler, "\"etag1\"", out);
+        verify(response).setHeader("ETag", "\"etag2\"");
+        verify(response).setHeader("Cache-Control", "private, max-age=60, must-revalidate");
+        verify(response).setContentType("image/jpeg");
+        verify(response, never()).setStatus(anyInt());
+        assertThat(out.toByteArray()).containsExactly(1, 2, 3);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void removed_picture_is_not_found() throws IOException {
+        var handler = new PictureDownloadHandler("picture.jpg", "etag1", () -> null);
+
+        var out = new ByteArrayOutputStream();
+        var response = handle(handler, null, out);
+        verify(response).setStatus(404);
+        assertThat(out.toByteArray()).isEmpty();
+    }
+
+    /**
+     * Handles a download request with the given {@code If-None-Match} header, writing the response body to the given
+     * stream. Returns the mocked response, for verifying the status and headers.
+     */
+    static VaadinResponse handle(DownloadHandler handler, @Nullable String ifNoneMatch, ByteArrayOutputStream out)
+            throws IOException {
+        var request = mock(VaadinRequest.class);
+        when(request.getHeader("If-None-Match")).thenReturn(ifNoneMatch);
+        var response = mock(VaadinResponse.class);
+        when(response.getOutputStream()).thenReturn(out);
+        handler.handleDownloadRequest(new DownloadEvent(request, response, mock(VaadinSession.class),
+                new Element("img")));
+        return response;
+    }
+
+    private StoredPicture load(String etag) {
+        loads.incrementAndGet();
+        return new StoredPicture("image/jpeg", new byte[]{1, 2, 3}, etag);
+    }
+}
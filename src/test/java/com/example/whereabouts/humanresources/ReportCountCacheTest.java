@@ -0,0 +1,52 @@
+package com.example.whereabouts.humanresources;
+
+import com.example.whereabouts.humanresources.internal.OrgChartQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReportCountCacheTest {
+
+    private final EmployeeId manager = EmployeeId.of(1);
+    private final OrgChartQuery query = mock(OrgChartQuery.class);
+    private final ReportCountCache cache = new ReportCountCache(query);
+
+    @Test
+    void counts_are_loaded_once_and_reloaded_after_the_invalidating_transaction_commits() {
+        when(query.countAllReports()).thenReturn(Map.of(manager, 2), Map.of(manager, 3));
+
+        assertThat(cache.countReports(manager)).isEqualTo(2);
+        assertThat(cache.countReports(EmployeeId.of(2))).isZero();
+        verify(query, times(1)).countAllReports();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit();
+            assertThat(cache.countReports(manager)).isEqualTo(2);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cache.countReports(manager)).isEqualTo(3);
+        verify(query, times(2)).countAllReports();
+    }
+
+    @Test
+    void counts_loaded_while_the_cache_is_invalidated_are_not_cached() {
+        when(query.countAllReports()).thenAnswer(invocation -> {
+            // Another transaction commits a change while the counts are loaded
+            cache.invalidateAfterCommit();
+            return Map.of(manager, 2);
+        });
+
+        cache.countReports(manager);
+        cache.countReports(manager);
+        verify(query, times(2)).countAllReports();
+    }
+}
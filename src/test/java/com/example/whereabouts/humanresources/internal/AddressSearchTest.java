@@ -0,0 +1,101 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.SyntheticDataGenerator;
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.common.address.*;
+import com.example.whereabouts.humanresources.*;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static com.example.whereabouts.jooq.Tables.EMPLOYEE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class AddressSearchTest {
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+    @Autowired
+    EmployeeReferenceQuery employeeReferenceQuery;
+    @Autowired
+    LocationRepository locationRepository;
+    @Autowired
+    LocationReferenceQuery locationReferenceQuery;
+    @Autowired
+    SyntheticDataGenerator generator;
+    @Autowired
+    DSLContext dsl;
+
+    @Test
+    void employees_are_found_by_the_fields_of_every_address_format() {
+        var helsinki = insertEmployee(0, new FinnishPostalAddress("Street", FinnishPostalCode.of("00100"), "Helsinki",
+                Country.ofIsoCode("FI")));
+        var springfield = insertEmployee(1, new USPostalAddress("Street", "Springfield", USState.IL,
+                USZipCode.of("62701"), Country.ofIsoCode("US")));
+        var toronto = insertEmployee(2, new CanadianPostalAddress("Street", "Toronto", CanadianProvince.ON,
+                CanadianPostalCode.of("M5V 2T6"), Country.ofIsoCode("CA")));
+        var stockholm = insertEmployee(3, new InternationalPostalAddress("Street", "Stockholm", "Stockholms län",
+                "111 51", Country.ofIsoCode("SE")));
+
+        // The database may contain other employees, so only the employees inserted here are checked
+        var inserted = List.of(helsinki, springfield, toronto, stockholm);
+        assertThat(findEmployees(AddressFilter.empty().withCity("HELSINKI"), inserted)).containsExactly(helsinki);
+        assertThat(findEmployees(AddressFilter.empty().withPostalCode("62701"), inserted)).containsExactly(springfield);
+        assertThat(findEmployees(AddressFilter.empty().withRegion("il"), inserted)).containsExactly(springfield);
+        assertThat(findEmployees(AddressFilter.empty().withRegion("ON").withCity("Toronto"), inserted))
+                .containsExactly(toronto);
+        assertThat(findEmployees(AddressFilter.empty().withRegion("Stockholms län"), inserted))
+                .containsExactly(stockholm);
+        assertThat(findEmployees(AddressFilter.empty().withCity("Stockholm").withPostalCode("00100"), inserted))
+                .isEmpty();
+    }
+
+    @Test
+    void locations_are_found_by_address() {
+        var location = locationRepository.insert(LocationRepositoryTest.createLocationData());
+
+        assertThat(locationReferenceQuery.findByAddress(PageRequest.of(0, 1000),
+                AddressFilter.empty().withCity("post").withPostalCode("12345")))
+                .extracting(LocationReference::id)
+                .contains(location);
+        assertThat(locationReferenceQuery.findByAddress(PageRequest.of(0, 1000),
+                AddressFilter.empty().withCity("post").withPostalCode("54321")))
+                .isEmpty();
+    }
+
+    @Test
+    void address_searches_use_the_address_indexes() {
+        generator.generate(new SyntheticDataGenerator.Volumes(10, 20_000, 0, 0, 0), 1, 1);
+        dsl.execute("analyze employee");
+
+        var conditions = List.of(
+                DSL.lower(EMPLOYEE.HOME_CITY).eq("city123"),
+                DSL.lower(EMPLOYEE.HOME_POSTAL_CODE).eq("postal123"),
+                DSL.lower(EMPLOYEE.HOME_REGION).eq("region12"));
+        for (var condition : conditions) {
+            var plan = dsl.explain(dsl.select(EMPLOYEE.EMPLOYEE_ID).from(EMPLOYEE).where(condition)).plan();
+            assertThat(plan).as("Plan:%n%s", plan).doesNotContain("Seq Scan on employee");
+        }
+    }
+
+    private EmployeeId insertEmployee(int index, PostalAddress homeAddress) {
+        var data = EmployeeRepositoryTest.createEmployeeData(index);
+        return employeeRepository.insert(new EmployeeData(data.firstName(), data.middleName(), data.lastName(),
+                data.preferredName(), data.birthDate(), data.gender(), data.dietaryNotes(), data.timeZone(),
+                homeAddress, data.workPhone(), data.mobilePhone(), data.homePhone(), data.workEmail()));
+    }
+
+    private List<EmployeeId> findEmployees(AddressFilter homeAddress, List<EmployeeId> among) {
+        return employeeReferenceQuery.findByFilter(PageRequest.of(0, 1000),
+                        EmployeeFilter.empty().withHomeAddress(homeAddress)).stream()
+                .map(EmployeeReference::id)
+                .filter(among::contains)
+                .toList();
+    }
+}
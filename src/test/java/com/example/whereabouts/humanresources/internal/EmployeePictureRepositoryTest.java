@@ -0,0 +1,55 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmployeePictureSize;
+import com.example.whereabouts.humanresources.EmployeeTestDataService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class EmployeePictureRepositoryTest {
+
+    @Autowired
+    private EmployeeTestDataService employeeTestDataService;
+    @Autowired
+    private EmployeePictureRepository repository;
+
+    @Test
+    void save_replaces_the_picture_and_its_thumbnails() {
+        var employee = employeeTestDataService.createEmployee();
+        var withoutPicture = employeeTestDataService.createEmployee();
+        assertThat(repository.findEtag(employee)).isEmpty();
+
+        repository.save(employee, picture("image/png", 1, "etag1"), Map.of(
+                EmployeePictureSize.SMALL, picture("image/jpeg", 2, "etag1"),
+                EmployeePictureSize.MEDIUM, picture("image/jpeg", 3, "etag1")));
+        assertThat(repository.findEtag(employee)).contains("etag1");
+        assertThat(repository.findOriginal(employee).orElseThrow().content()).containsExactly(1);
+        var smallThumbnails = repository.findThumbnails(Set.of(employee, withoutPicture), EmployeePictureSize.SMALL);
+        assertThat(smallThumbnails).containsOnlyKeys(employee);
+        assertThat(smallThumbnails.get(employee).content()).containsExactly(2);
+        assertThat(smallThumbnails.get(employee).etag()).isEqualTo("etag1");
+
+        repository.save(employee, picture("image/gif", 4, "etag2"), Map.of(
+                EmployeePictureSize.SMALL, picture("image/jpeg", 5, "etag2")));
+        var original = repository.findOriginal(employee).orElseThrow();
+        assertThat(original.contentType()).isEqualTo("image/gif");
+        assertThat(original.etag()).isEqualTo("etag2");
+        assertThat(repository.findThumbnails(Set.of(employee), EmployeePictureSize.SMALL).get(employee).content())
+                .containsExactly(5);
+        assertThat(repository.findThumbnails(Set.of(employee), EmployeePictureSize.MEDIUM)).isEmpty();
+
+        repository.deleteById(employee);
+        assertThat(repository.findOriginal(employee)).isEmpty();
+        assertThat(repository.findThumbnails(Set.of(employee), EmployeePictureSize.SMALL)).isEmpty();
+    }
+
+    private static StoredPicture picture(String contentType, int content, String etag) {
+        return new StoredPicture(contentType, new byte[]{(byte) content}, etag);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmployeeData;
+import com.example.whereabouts.humanresources.EmployeeFilter;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class EmployeeReferenceQueryTest {
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+    @Autowired
+    EmployeeReferenceQuery query;
+
+    EmployeeId johnSmith;
+    EmployeeId johannaSmithson;
+
+    EmployeeId insertEmployee(String firstName, String lastName, int increment) {
+        var data = EmployeeRepositoryTest.createEmployeeData(increment);
+        return employeeRepository.insert(new EmployeeData(firstName, null, lastName, firstName, data.birthDate(),
+                data.gender(), data.dietaryNotes(), data.timeZone(), data.homeAddress(), data.workPhone(),
+                data.mobilePhone(), data.homePhone(), data.workEmail()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        johnSmith = insertEmployee("John", "Smith", 1);
+        johannaSmithson = insertEmployee("Johanna", "Smithson", 2);
+        insertEmployee("Jane", "Doe", 3);
+    }
+
+    @Test
+    void all_words_of_the_search_term_must_match() {
+        assertThat(query.findByFilter(PageRequest.of(0, 10), EmployeeFilter.empty().withSearchTerm("John Smith")))
+                .extracting(EmployeeReference::id)
+                .containsExactly(johnSmith);
+    }
+
+    @Test
+    void words_can_be_in_any_order_and_case() {
+        assertThat(query.findByFilter(PageRequest.of(0, 10), EmployeeFilter.empty().withSearchTerm("  SMI  jo ")))
+                .extracting(EmployeeReference::id)
+                .containsExactlyInAnyOrder(johnSmith, johannaSmithson);
+    }
+
+    @Test
+    void single_word_matches_any_part_of_the_name() {
+        assertThat(query.findByFilter(PageRequest.of(0, 10), EmployeeFilter.empty().withSearchTerm("ithso")))
+                .extracting(EmployeeReference::id)
+                .containsExactly(johannaSmithson);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmploymentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class EmployeeViewQueryTest {
+
+    @Autowired
+    LocationRepository locationRepository;
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+
+    @Autowired
+    EmploymentDetailsRepository employmentDetailsRepository;
+
+    @Autowired
+    EmployeeReferenceQuery employeeReferenceQuery;
+
+    @Autowired
+    LocationReferenceQuery locationReferenceQuery;
+
+    @Autowired
+    EmployeeViewQuery query;
+
+    @Test
+    void view_contains_the_same_data_as_the_separate_queries() {
+        var employeeId = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(0));
+        var managerId = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(1));
+        var locationId = locationRepository.insert(LocationRepositoryTest.createLocationData());
+        employmentDetailsRepository.insert(managerId, EmploymentDetailsRepositoryTest.createEmploymentDetailsData(
+                locationId, null, EmploymentStatus.ACTIVE));
+        employmentDetailsRepository.insert(employeeId, EmploymentDetailsRepositoryTest.createEmploymentDetailsData(
+                locationId, managerId, EmploymentStatus.ACTIVE));
+
+        var view = query.findById(employeeId).orElseThrow();
+        assertThat(view.employee()).isEqualTo(employeeRepository.findById(employeeId).orElseThrow());
+        assertThat(view.details()).isEqualTo(employmentDetailsRepository.findById(employeeId).orElseThrow());
+        assertThat(view.manager()).isEqualTo(employeeReferenceQuery.findByIds(Set.of(managerId)).iterator().next());
+        assertThat(view.location()).isEqualTo(locationReferenceQuery.findByIds(Set.of(locationId)).iterator().next());
+
+        var managerView = query.findById(managerId).orElseThrow();
+        assertThat(managerView.details()).isNotNull();
+        assertThat(managerView.manager()).isNull();
+    }
+
+    @Test
+    void employee_without_employment_details_is_found() {
+        var employeeId = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(0));
+
+        var view = query.findById(employeeId).orElseThrow();
+        assertThat(view.employee().id()).isEqualTo(employeeId);
+        assertThat(view.details()).isNull();
+        assertThat(view.manager()).isNull();
+        assertThat(view.location()).isNull();
+    }
+}
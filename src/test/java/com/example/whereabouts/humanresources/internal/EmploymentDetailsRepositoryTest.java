@@ -1,10 +1,8 @@
 package com.example.whereabouts.humanresources.internal;
 
 import com.example.whereabouts.IntegrationTest;
-import com.example.whereabouts.humanresources.EmploymentDetailsData;
-import com.example.whereabouts.humanresources.EmploymentStatus;
-import com.example.whereabouts.humanresources.EmploymentType;
-import com.example.whereabouts.humanresources.WorkArrangement;
+import com.example.whereabouts.humanresources.*;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -24,6 +22,20 @@ class EmploymentDetailsRepositoryTest {
     @Autowired
     EmploymentDetailsRepository repository;
 
+    static EmploymentDetailsData createEmploymentDetailsData(LocationId location, @Nullable EmployeeId manager,
+                                                             EmploymentStatus status) {
+        return new EmploymentDetailsData(
+                "Title",
+                EmploymentType.FULL_TIME,
+                status,
+                WorkArrangement.ONSITE,
+                location,
+                manager,
+                LocalDate.of(2023, 5, 31),
+                null
+        );
+    }
+
     @Test
     void insert_get_and_update_include_all_properties() {
         var employeeId = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(0));
@@ -7,7 +7,11 @@ import com.example.whereabouts.common.address.FinnishPostalCode;
 import com.example.whereabouts.common.address.InternationalPostalAddress;
 import com.example.whereabouts.humanresources.LocationData;
 import com.example.whereabouts.humanresources.LocationFacility;
+import com.example.whereabouts.humanresources.LocationId;
 import com.example.whereabouts.humanresources.LocationType;
+import com.example.whereabouts.jooq.enums.FacilityType;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -15,6 +19,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 
+import static com.example.whereabouts.jooq.Tables.LOCATION_FACILITY;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @IntegrationTest
@@ -22,6 +27,8 @@ class LocationRepositoryTest {
 
     @Autowired
     LocationRepository repository;
+    @Autowired
+    DSLContext dsl;
 
     static LocationData createLocationData() {
         return new LocationData(
@@ -85,4 +92,41 @@ class LocationRepositoryTest {
         assertThat(retrieved.version()).isEqualTo(2);
         assertThat(retrieved.data()).isEqualTo(updatedData);
     }
+
+    @Test
+    void update_only_writes_the_facilities_that_changed() {
+        var id = repository.insert(createLocationData());
+        var location = repository.findById(id).orElseThrow();
+        var kitchenBefore = facilityRowLocation(id, FacilityType.KITCHEN);
+        var parkingSlotsBefore = facilityRowLocation(id, FacilityType.PARKING_SLOTS);
+        var floorSpaceBefore = facilityRowLocation(id, FacilityType.FLOOR_SPACE);
+
+        var data = location.data();
+        repository.update(location.withData(new LocationData(data.name(), data.locationType(), data.address(),
+                data.established(), data.about(), data.timeZone(), List.of(
+                new LocationFacility.FloorSpace(300), // changed
+                new LocationFacility.Kitchen(), // unchanged
+                new LocationFacility.ParkingSlots(10), // unchanged
+                new LocationFacility.HotDesks(5) // added, and the accessible office is removed
+        ))));
+
+        assertThat(repository.findById(id).orElseThrow().data().facilities()).containsExactlyInAnyOrder(
+                new LocationFacility.FloorSpace(300),
+                new LocationFacility.Kitchen(),
+                new LocationFacility.ParkingSlots(10),
+                new LocationFacility.HotDesks(5));
+        // Every write creates a new row version in a new place, even within the same transaction
+        assertThat(facilityRowLocation(id, FacilityType.KITCHEN)).isEqualTo(kitchenBefore);
+        assertThat(facilityRowLocation(id, FacilityType.PARKING_SLOTS)).isEqualTo(parkingSlotsBefore);
+        assertThat(facilityRowLocation(id, FacilityType.FLOOR_SPACE)).isNotEqualTo(floorSpaceBefore);
+    }
+
+    private String facilityRowLocation(LocationId location, FacilityType facilityType) {
+        return dsl.select(DSL.field("ctid::text", String.class))
+                .from(LOCATION_FACILITY)
+                .where(LOCATION_FACILITY.LOCATION_ID.eq(location.toLong()))
+                .and(LOCATION_FACILITY.FACILITY_TYPE.eq(facilityType))
+                .fetchSingle()
+                .value1();
+    }
 }
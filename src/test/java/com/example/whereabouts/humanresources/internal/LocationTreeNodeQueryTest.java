@@ -0,0 +1,74 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.common.Country;
+import com.example.whereabouts.humanresources.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class LocationTreeNodeQueryTest {
+
+    private static final Country FINLAND = Country.ofIsoCode("FI");
+
+    @Autowired
+    LocationRepository locationRepository;
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+
+    @Autowired
+    EmploymentDetailsRepository employmentDetailsRepository;
+
+    @Autowired
+    LocationTreeNodeQuery query;
+
+    @Test
+    void country_statistics_count_locations_and_active_employees() {
+        var before = findFinnishStatistics();
+
+        var location = locationRepository.insert(LocationRepositoryTest.createLocationData());
+        locationRepository.insert(LocationRepositoryTest.createLocationData());
+        insertEmployee(0, location, EmploymentStatus.ACTIVE);
+        insertEmployee(1, location, EmploymentStatus.INACTIVE);
+
+        var after = findFinnishStatistics();
+        assertThat(after.locations()).isEqualTo(before.locations() + 2);
+        assertThat(after.activeEmployees()).isEqualTo(before.activeEmployees() + 1);
+
+        // The statistics must agree with the queries they replace in the location tree
+        assertThat(query.findCountryStatistics()).hasSize(query.countCountriesWithLocations());
+        assertThat(after.locations()).isEqualTo(query.countLocationsInCountry(FINLAND));
+        assertThat(query.findCountries(PageRequest.of(0, 1000)))
+                .contains(new LocationTreeNode.CountryNode(FINLAND, after.activeEmployees()));
+    }
+
+    @Test
+    void tree_contains_the_same_nodes_as_the_level_by_level_queries() {
+        var location = locationRepository.insert(LocationRepositoryTest.createLocationData());
+        insertEmployee(0, location, EmploymentStatus.ACTIVE);
+
+        var tree = query.findTree();
+        assertThat(tree).extracting(LocationTreeRow::country).distinct()
+                .containsExactlyInAnyOrderElementsOf(query.findCountries(PageRequest.of(0, 1000)));
+        assertThat(tree).filteredOn(row -> row.country().country().equals(FINLAND))
+                .extracting(LocationTreeRow::location)
+                .containsExactlyInAnyOrderElementsOf(query.findLocations(FINLAND, PageRequest.of(0, 1000)));
+    }
+
+    private CountryLocationStatistics findFinnishStatistics() {
+        return query.findCountryStatistics().stream()
+                .filter(statistics -> statistics.country().equals(FINLAND))
+                .findFirst()
+                .orElse(new CountryLocationStatistics(FINLAND, 0, 0));
+    }
+
+    private void insertEmployee(int index, LocationId location, EmploymentStatus status) {
+        var employee = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(index));
+        employmentDetailsRepository.insert(employee,
+                EmploymentDetailsRepositoryTest.createEmploymentDetailsData(location, null, status));
+    }
+}
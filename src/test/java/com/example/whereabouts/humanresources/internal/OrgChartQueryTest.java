@@ -0,0 +1,81 @@
+package com.example.whereabouts.humanresources.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeReference;
+import com.example.whereabouts.humanresources.EmploymentStatus;
+import com.example.whereabouts.humanresources.LocationId;
+import com.example.whereabouts.humanresources.OrgChartEntry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@IntegrationTest
+class OrgChartQueryTest {
+
+    @Autowired
+    LocationRepository locationRepository;
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+
+    @Autowired
+    EmploymentDetailsRepository employmentDetailsRepository;
+
+    @Autowired
+    OrgChartQuery query;
+
+    LocationId location;
+    EmployeeId ceo;
+    EmployeeId cto;
+    EmployeeId developer;
+    EmployeeId tester;
+    EmployeeId cfo;
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.insert(LocationRepositoryTest.createLocationData());
+        ceo = insertEmployee(0, null);
+        cto = insertEmployee(1, ceo);
+        developer = insertEmployee(2, cto);
+        tester = insertEmployee(3, cto);
+        cfo = insertEmployee(4, ceo);
+    }
+
+    @Test
+    void reporting_chain_starts_from_the_direct_manager() {
+        assertThat(query.findReportingChain(developer)).extracting(EmployeeReference::id).containsExactly(cto, ceo);
+        assertThat(query.findReportingChain(ceo)).isEmpty();
+    }
+
+    @Test
+    void reports_include_indirect_reports_level_by_level() {
+        assertThat(query.findReports(ceo))
+                .extracting(entry -> entry.employee().id(), OrgChartEntry::manager, OrgChartEntry::level)
+                .containsExactlyInAnyOrder(
+                        tuple(cto, ceo, 1),
+                        tuple(cfo, ceo, 1),
+                        tuple(developer, cto, 2),
+                        tuple(tester, cto, 2));
+        assertThat(query.findReports(developer)).isEmpty();
+    }
+
+    @Test
+    void report_counts_include_indirect_reports() {
+        var counts = query.countAllReports();
+        assertThat(counts.get(ceo)).isEqualTo(4);
+        assertThat(counts.get(cto)).isEqualTo(2);
+        assertThat(counts).doesNotContainKeys(developer, tester, cfo);
+    }
+
+    private EmployeeId insertEmployee(int index, @Nullable EmployeeId manager) {
+        var employee = employeeRepository.insert(EmployeeRepositoryTest.createEmployeeData(index));
+        employmentDetailsRepository.insert(employee, EmploymentDetailsRepositoryTest.createEmploymentDetailsData(
+                location, manager, EmploymentStatus.ACTIVE));
+        return employee;
+    }
+}
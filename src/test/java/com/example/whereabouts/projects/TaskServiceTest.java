@@ -0,0 +1,105 @@
+package com.example.whereabouts.projects;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.projects.internal.ProjectRepository;
+import com.example.whereabouts.projects.internal.TaskRepository;
+import com.example.whereabouts.security.AppRoles;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.provider.SortOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+@WithMockUser(roles = {AppRoles.PROJECT_READ, AppRoles.TASK_CREATE})
+class TaskServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void tasks_sorted_by_relevance_are_paged_with_an_offset() {
+        var project = projectRepository.insert(new ProjectData("Name", "Description"));
+        taskService.insertTask(createTaskData(project, "Write the quarterly report"));
+        taskService.insertTask(createTaskData(project, "Report the report generator bugs"));
+        taskService.insertTask(createTaskData(project, "Reporting dashboard"));
+        var filter = TaskFilter.empty().withSearchMode(TaskSearchMode.FULL_TEXT).withSearchTerm("report");
+        var relevance = List.of(new SortOrder<>(TaskSortableProperty.RELEVANCE, SortDirection.DESCENDING));
+        assertThat(TaskService.supportsKeysetPagination(relevance)).isFalse();
+
+        var firstPage = taskService.findTasksAfter(project, filter, null, 2, relevance).toList();
+        assertThat(firstPage).hasSize(2);
+        assertThat(taskService.findTasks(project, filter, 2, 2, relevance)).hasSize(1)
+                .doesNotContainAnyElementsOf(firstPage);
+        assertThatThrownBy(() -> taskService.findTasksAfter(project, filter, firstPage.getLast(), 2, relevance))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("findTasks");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void import_commits_every_chunk_and_keeps_the_chunks_before_a_failing_one() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var project = requireNonNull(transactionTemplate.execute(status ->
+                projectRepository.insert(new ProjectData("Import", "Description"))));
+        var missingEmployee = EmployeeId.of(Long.MAX_VALUE);
+        // Two full chunks, and a third chunk whose last task has an assignee that does not exist
+        var taskCount = TaskService.IMPORT_CHUNK_SIZE * 2 + 10;
+        var tasks = IntStream.range(0, taskCount).mapToObj(i -> i < taskCount - 1
+                ? createTaskData(project, "Imported " + i)
+                : new TaskData(project, "Imported " + i, null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of(missingEmployee)));
+
+        var progress = new ArrayList<Long>();
+        assertThatThrownBy(() -> taskService.importTasks(tasks, progress::add)).isInstanceOf(RuntimeException.class);
+
+        assertThat(progress).containsExactly((long) TaskService.IMPORT_CHUNK_SIZE, TaskService.IMPORT_CHUNK_SIZE * 2L);
+        assertThat(transactionTemplate.execute(status -> taskRepository.countByFilter(project, TaskFilter.empty())))
+                .isEqualTo(TaskService.IMPORT_CHUNK_SIZE * 2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void import_commits_every_chunk_even_when_called_inside_a_transaction() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var project = requireNonNull(transactionTemplate.execute(status ->
+                projectRepository.insert(new ProjectData("Import", "Description"))));
+        var taskCount = TaskService.IMPORT_CHUNK_SIZE + 10;
+        var tasks = IntStream.range(0, taskCount).mapToObj(i -> createTaskData(project, "Imported " + i));
+
+        // The transaction of the caller is rolled back, but the imported chunks have already been committed
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(taskService.importTasks(tasks, imported -> {})).isEqualTo(taskCount);
+            status.setRollbackOnly();
+        });
+
+        assertThat(transactionTemplate.execute(status -> taskRepository.countByFilter(project, TaskFilter.empty())))
+                .isEqualTo(taskCount);
+    }
+
+    static TaskData createTaskData(ProjectId project, String description) {
+        return new TaskData(project, description, null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.whereabouts.projects.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.humanresources.EmployeeTestDataService;
+import com.example.whereabouts.projects.TaskData;
+import com.example.whereabouts.projects.TaskFilter;
+import com.example.whereabouts.projects.TaskPriority;
+import com.example.whereabouts.projects.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@TestPropertySource(properties = "whereabouts.tasks.assignee-fetch-strategy=BATCH")
+class BatchAssigneeFetchTaskRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private EmployeeTestDataService employeeTestDataService;
+    @Autowired
+    private TaskRepository repository;
+
+    @Test
+    void assignees_are_fetched_for_every_task_on_the_page() {
+        var employee1 = employeeTestDataService.createEmployee();
+        var employee2 = employeeTestDataService.createEmployee();
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var task1 = new TaskData(project, "Task1", null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of(employee1, employee2));
+        var task2 = new TaskData(project, "Task2", null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of(employee2));
+        var task3 = new TaskData(project, "Task3", null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of());
+        var id1 = repository.insert(task1);
+        repository.insert(task2);
+        repository.insert(task3);
+
+        assertThat(repository.findById(id1).orElseThrow().data()).isEqualTo(task1);
+        var tasks = repository.findByFilter(project, TaskFilter.empty(), 10, 0, List.of()).toList();
+        assertThat(tasks).extracting(task -> task.data()).containsExactly(task1, task2, task3);
+    }
+}
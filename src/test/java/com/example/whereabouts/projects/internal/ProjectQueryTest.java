@@ -0,0 +1,134 @@
+package com.example.whereabouts.projects.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.SyntheticDataGenerator;
+import com.example.whereabouts.humanresources.EmployeeId;
+import com.example.whereabouts.humanresources.EmployeeTestDataService;
+import com.example.whereabouts.projects.*;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ProjectQueryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired
+    private EmployeeTestDataService employeeTestDataService;
+    @Autowired
+    private ProjectQuery query;
+    @Autowired
+    private SyntheticDataGenerator generator;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void task_and_assignee_counters_follow_task_writes() {
+        var employee1 = employeeTestDataService.createEmployee();
+        var employee2 = employeeTestDataService.createEmployee();
+        var project1 = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var project2 = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        assertCounters(project1, 0, 0);
+
+        var task1 = taskRepository.insert(createTaskData(project1, employee1, employee2));
+        taskRepository.insertAll(List.of(createTaskData(project1, employee1), createTaskData(project1)));
+        assertCounters(project1, 3, 2);
+
+        var task = taskRepository.findById(task1).orElseThrow();
+        task = taskRepository.update(task.withData(createTaskData(project1, employee1)));
+        assertCounters(project1, 3, 1);
+
+        taskRepository.update(task.withData(createTaskData(project2, employee2)));
+        assertCounters(project1, 2, 1);
+        assertCounters(project2, 1, 1);
+
+        taskRepository.deleteById(task1);
+        assertCounters(project2, 0, 0);
+    }
+
+    @Test
+    void rebuild_repairs_counters_of_tasks_written_with_sql() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        taskRepository.insert(createTaskData(project));
+        generator.generateTasks(project, 10, 1);
+        assertCounters(project, 1, 0);
+
+        projectStatisticsRepository.rebuild();
+        assertCounters(project, 11, 0);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrent_task_writes_do_not_lose_new_assignees() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var employee1 = employeeTestDataService.createEmployee();
+        var employee2 = employeeTestDataService.createEmployee();
+        var project = requireNonNull(transactionTemplate.execute(status ->
+                projectRepository.insert(ProjectRepositoryTest.createProjectData())));
+        var firstWritten = new CountDownLatch(1);
+        var commitFirst = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.insert(createTaskData(project, employee1));
+                firstWritten.countDown();
+                await(commitFirst);
+            }));
+            await(firstWritten);
+            // The second write blocks on the project counters until the first one commits
+            var second = executor.submit(() -> transactionTemplate.executeWithoutResult(status ->
+                    taskRepository.insert(createTaskData(project, employee2))));
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (dsl.fetchCount(dsl.selectFrom("pg_stat_activity").where("wait_event_type = 'Lock'")) == 0) {
+                assertThat(System.nanoTime()).as("second write waiting for the lock").isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            commitFirst.countDown();
+            first.get();
+            second.get();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> assertCounters(project, 2, 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void assertCounters(ProjectId project, int tasks, int assignees) {
+        var item = query.findProjectListItemById(project).orElseThrow();
+        assertThat(item.tasks()).as("tasks").isEqualTo(tasks);
+        assertThat(item.assignees()).as("assignees").isEqualTo(assignees);
+    }
+
+    private static TaskData createTaskData(ProjectId project, EmployeeId... assignees) {
+        return new TaskData(project, "Description", null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of(assignees));
+    }
+}
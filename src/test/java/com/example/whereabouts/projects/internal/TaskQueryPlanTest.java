@@ -0,0 +1,158 @@
+package com.example.whereabouts.projects.internal;
+
+import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.SyntheticDataGenerator;
+import com.example.whereabouts.projects.*;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.provider.SortOrder;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the composite indexes on the task table cover every filter and sort combination of the task grid.
+ */
+@IntegrationTest
+@Import(TaskQueryPlanTest.QueryRecorderConfiguration.class)
+class TaskQueryPlanTest {
+
+    private static final Pattern SEQ_SCAN_ON_TASK = Pattern.compile("Seq Scan on task\\b(?!_)");
+    private static final Pattern SORT = Pattern.compile("(^|->\\s+)(Incremental )?Sort\\b");
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository repository;
+    @Autowired
+    private SyntheticDataGenerator generator;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    @Test
+    void task_queries_read_the_first_page_from_an_index_without_sorting() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var otherProject = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        generator.generateTasks(project, 100_000, 1);
+        generator.generateTasks(otherProject, 100_000, 2);
+        dsl.execute("analyze task");
+
+        var filters = List.of(
+                TaskFilter.empty(),
+                TaskFilter.empty().withStatus(TaskStatus.IN_PROGRESS).withStatus(TaskStatus.PAUSED),
+                TaskFilter.empty().withPriority(TaskPriority.URGENT),
+                TaskFilter.empty().withStatus(TaskStatus.PENDING).withPriority(TaskPriority.HIGH)
+        );
+        for (var filter : filters) {
+            for (var sortOrders : sortOrderCombinations()) {
+                var plan = explainFindByFilter(project, filter, sortOrders);
+                assertThat(plan).as("Filter %s, sort orders %s:%n%s", filter, sortOrders, plan)
+                        .doesNotContainPattern(SEQ_SCAN_ON_TASK)
+                        .doesNotContainPattern(SORT);
+            }
+        }
+
+        // Searches are selective, so sorting the matching tasks is fine as long as they are found through an index
+        var searches = List.of(
+                TaskFilter.empty().withSearchTerm("flow #123"),
+                TaskFilter.empty().withSearchMode(TaskSearchMode.FULL_TEXT).withSearchTerm("flow #123")
+        );
+        for (var filter : searches) {
+            for (var sortOrders : sortOrderCombinations()) {
+                var plan = explainFindByFilter(project, filter, sortOrders);
+                assertThat(plan).as("Filter %s, sort orders %s:%n%s", filter, sortOrders, plan)
+                        .doesNotContainPattern(SEQ_SCAN_ON_TASK);
+            }
+        }
+    }
+
+    @Test
+    void task_table_only_has_the_indexes_that_the_task_queries_use() {
+        // Every index slows down inserts, such as the task import
+        assertThat(dsl.fetch("select indexname from pg_indexes where schemaname = current_schema() "
+                + "and tablename = 'task'").getValues(0, String.class))
+                .containsExactlyInAnyOrder(
+                        "task_pkey",
+                        "task_project_id_task_id_idx",
+                        "task_project_id_status_idx",
+                        "task_project_id_priority_idx",
+                        "task_project_id_description_idx",
+                        "task_project_id_due_date_time_idx",
+                        "task_description_trgm_idx",
+                        "task_description_tsv_idx");
+    }
+
+    private String explainFindByFilter(ProjectId project, TaskFilter filter,
+                                       List<SortOrder<TaskSortableProperty>> sortOrders) {
+        queryRecorder.clear();
+        repository.findByFilter(project, filter, 50, 0, sortOrders).toList();
+        var sql = queryRecorder.queries().getFirst();
+        return String.join("\n", dsl.fetch("explain " + sql).getValues(0, String.class));
+    }
+
+    private static List<List<SortOrder<TaskSortableProperty>>> sortOrderCombinations() {
+        var combinations = new ArrayList<List<SortOrder<TaskSortableProperty>>>();
+        combinations.add(List.of());
+        for (var property : TaskSortableProperty.values()) {
+            if (property == TaskSortableProperty.RELEVANCE) {
+                continue;
+            }
+            for (var direction : SortDirection.values()) {
+                combinations.add(List.of(new SortOrder<>(property, direction)));
+            }
+        }
+        return combinations;
+    }
+
+    /**
+     * Records the SQL of every executed query with the bind values inlined, so that it can be explained.
+     */
+    static class QueryRecorder implements ExecuteListener {
+
+        private final List<String> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void executeStart(ExecuteContext ctx) {
+            if (ctx.query() != null) {
+                queries.add(ctx.dsl().renderInlined(ctx.query()));
+            }
+        }
+
+        List<String> queries() {
+            return queries;
+        }
+
+        void clear() {
+            queries.clear();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryRecorderConfiguration {
+
+        @Bean
+        QueryRecorder queryRecorder() {
+            return new QueryRecorder();
+        }
+
+        @Bean
+        ExecuteListenerProvider queryRecorderListenerProvider(QueryRecorder queryRecorder) {
+            return new DefaultExecuteListenerProvider(queryRecorder);
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.whereabouts.projects.internal;
 
 import com.example.whereabouts.IntegrationTest;
+import com.example.whereabouts.SyntheticDataGenerator;
+import com.example.whereabouts.humanresources.EmployeeId;
 import com.example.whereabouts.humanresources.EmployeeTestDataService;
-import com.example.whereabouts.projects.TaskData;
-import com.example.whereabouts.projects.TaskPriority;
-import com.example.whereabouts.projects.TaskStatus;
+import com.example.whereabouts.projects.*;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.provider.SortOrder;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +28,8 @@ class TaskRepositoryTest {
     private EmployeeTestDataService employeeTestDataService;
     @Autowired
     private TaskRepository repository;
+    @Autowired
+    private SyntheticDataGenerator generator;
 
     @Test
     void insert_get_and_update_include_all_properties() {
@@ -65,4 +71,142 @@ class TaskRepositoryTest {
         assertThat(retrieved.version()).isEqualTo(2);
         assertThat(retrieved.data()).isEqualTo(updatedData);
     }
+
+    @Test
+    void keyset_pagination_returns_the_same_tasks_as_offset_pagination() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        generator.generateTasks(project, 500, 1);
+        var pageSize = 50;
+
+        var sortOrderCombinations = new ArrayList<List<SortOrder<TaskSortableProperty>>>();
+        sortOrderCombinations.add(List.of());
+        for (var property : TaskSortableProperty.values()) {
+            if (property == TaskSortableProperty.RELEVANCE) {
+                continue;
+            }
+            for (var direction : SortDirection.values()) {
+                sortOrderCombinations.add(List.of(new SortOrder<>(property, direction)));
+            }
+        }
+        sortOrderCombinations.add(List.of(new SortOrder<>(TaskSortableProperty.STATUS, SortDirection.ASCENDING),
+                new SortOrder<>(TaskSortableProperty.DUE_DATE, SortDirection.DESCENDING)));
+
+        for (var sortOrders : sortOrderCombinations) {
+            var withOffset = repository.findByFilter(project, TaskFilter.empty(), 500, 0, sortOrders).toList();
+            var withKeyset = new ArrayList<Task>();
+            Task after = null;
+            List<Task> page;
+            do {
+                page = repository.findByFilterAfter(project, TaskFilter.empty(), after, pageSize, sortOrders).toList();
+                withKeyset.addAll(page);
+                after = page.isEmpty() ? null : page.getLast();
+            } while (page.size() == pageSize);
+            assertThat(withKeyset).as("Sort orders %s", sortOrders).containsExactlyElementsOf(withOffset);
+        }
+    }
+
+    @Test
+    void full_text_search_matches_word_prefixes_and_sorts_by_relevance() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var onlyOnce = repository.insert(createTaskData(project, "Write the quarterly report"));
+        var twice = repository.insert(createTaskData(project, "Report the report generator bugs"));
+        repository.insert(createTaskData(project, "Reporting dashboard"));
+        repository.insert(createTaskData(project, "Unrelated"));
+
+        var filter = TaskFilter.empty().withSearchMode(TaskSearchMode.FULL_TEXT).withSearchTerm("repo");
+        var relevance = List.of(new SortOrder<>(TaskSortableProperty.RELEVANCE, SortDirection.DESCENDING));
+        assertThat(repository.findByFilter(project, filter, 10, 0, relevance)).hasSize(3);
+
+        filter = filter.withSearchTerm("the report");
+        assertThat(repository.findByFilter(project, filter, 10, 0, relevance))
+                .extracting(Task::id)
+                .containsExactly(twice, onlyOnce);
+
+        var contains = TaskFilter.empty().withSearchTerm("RTERLY rep");
+        assertThat(repository.findByFilter(project, contains, 10, 0, List.of()))
+                .extracting(Task::id)
+                .containsExactly(onlyOnce);
+    }
+
+    @Test
+    void countByFilter_matches_findByFilter() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        generator.generateTasks(project, 500, 1);
+
+        assertThat(repository.countByFilter(project, TaskFilter.empty())).isEqualTo(500);
+        var filter = TaskFilter.empty().withSearchTerm("#12");
+        assertThat(repository.countByFilter(project, filter))
+                .isEqualTo((int) repository.findByFilter(project, filter, 1000, 0, List.of()).count());
+    }
+
+    @Test
+    void forEachBatchByFilter_returns_the_same_tasks_as_findByFilter_in_batches() {
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        generator.generateTasks(project, 500, 1);
+        var sortOrders = List.of(new SortOrder<>(TaskSortableProperty.DUE_DATE, SortDirection.ASCENDING));
+
+        var batchSizes = new ArrayList<Integer>();
+        var exported = new ArrayList<Task>();
+        repository.forEachBatchByFilter(project, TaskFilter.empty(), sortOrders, 120, batch -> {
+            batchSizes.add(batch.size());
+            exported.addAll(batch);
+        });
+        assertThat(batchSizes).containsExactly(120, 120, 120, 120, 20);
+        assertThat(exported).containsExactlyElementsOf(
+                repository.findByFilter(project, TaskFilter.empty(), 500, 0, sortOrders).toList());
+    }
+
+    @Test
+    void update_keeps_unchanged_assignees_and_applies_the_difference() {
+        var employee1 = employeeTestDataService.createEmployee();
+        var employee2 = employeeTestDataService.createEmployee();
+        var employee3 = employeeTestDataService.createEmployee();
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var task = repository.findById(repository.insert(createTaskData(project, "Description", employee1, employee2)))
+                .orElseThrow();
+
+        task = repository.update(task.withData(createTaskData(project, "Description2", employee1, employee2)));
+        assertThat(repository.findById(task.id()).orElseThrow().data().assignees())
+                .containsExactlyInAnyOrder(employee1, employee2);
+
+        task = repository.update(task.withData(createTaskData(project, "Description2", employee2, employee3)));
+        assertThat(repository.findById(task.id()).orElseThrow().data().assignees())
+                .containsExactlyInAnyOrder(employee2, employee3);
+
+        task = repository.update(task.withData(createTaskData(project, "Description2")));
+        assertThat(repository.findById(task.id()).orElseThrow().data().assignees()).isEmpty();
+    }
+
+    @Test
+    void insertAll_includes_all_properties_and_preserves_order() {
+        var employee1 = employeeTestDataService.createEmployee();
+        var employee2 = employeeTestDataService.createEmployee();
+        var project = projectRepository.insert(ProjectRepositoryTest.createProjectData());
+        var data = new ArrayList<TaskData>();
+        for (var i = 0; i < 2500; ++i) {
+            data.add(new TaskData(project,
+                    "Imported " + i,
+                    i % 2 == 0 ? LocalDate.of(2025, 10, 10).plusDays(i % 100) : null,
+                    i % 4 == 0 ? LocalTime.of(16, 15) : null,
+                    ZoneId.of("Europe/Helsinki"),
+                    TaskStatus.values()[i % TaskStatus.values().length],
+                    TaskPriority.values()[i % TaskPriority.values().length],
+                    i % 3 == 0 ? Set.of(employee1, employee2) : Set.of()));
+        }
+
+        var ids = repository.insertAll(data);
+
+        assertThat(ids).hasSize(data.size()).doesNotHaveDuplicates();
+        for (var i = 0; i < ids.size(); i += 97) {
+            var retrieved = repository.findById(ids.get(i)).orElseThrow();
+            assertThat(retrieved.version()).isEqualTo(1);
+            assertThat(retrieved.data()).isEqualTo(data.get(i));
+        }
+    }
+
+    private static TaskData createTaskData(ProjectId project, String description, EmployeeId... assignees) {
+        return new TaskData(project, description, null, null, ZoneId.of("UTC"), TaskStatus.PENDING,
+                TaskPriority.NORMAL, Set.of(assignees));
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.example.whereabouts.projects.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCsvDownloadHandlerTest {
+
+    @Test
+    void plain_values_are_written_as_is() throws IOException {
+        assertThat(toCsv("42", "Write the report", "", "Doe, John"))
+                .isEqualTo("42,Write the report,,\"Doe, John\"\r\n");
+    }
+
+    @Test
+    void values_with_quotes_and_line_breaks_are_quoted() throws IOException {
+        assertThat(toCsv("Say \"hello\"", "First line\nSecond line", "Carriage\rreturn"))
+                .isEqualTo("\"Say \"\"hello\"\"\",\"First line\nSecond line\",\"Carriage\rreturn\"\r\n");
+    }
+
+    @Test
+    void values_that_look_like_formulas_are_prefixed_with_an_apostrophe() throws IOException {
+        assertThat(toCsv("=1+2", "+1", "-1", "@SUM(A1:A2)", "\tTab", "a=b"))
+                .isEqualTo("'=1+2,'+1,'-1,'@SUM(A1:A2),'\tTab,a=b\r\n");
+        assertThat(toCsv("=HYPERLINK(\"http://example.com\",\"x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\"\r\n");
+    }
+
+    private static String toCsv(String... values) throws IOException {
+        var writer = new StringWriter();
+        TaskCsvDownloadHandler.writeRow(writer, List.of(values));
+        return writer.toString();
+    }
+}